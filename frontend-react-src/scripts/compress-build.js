@@ -0,0 +1,31 @@
+// 빌드 결과물(build/)의 텍스트 파일을 미리 압축 (.gz, .br)
+// 서버(WebConfig의 EncodedResourceResolver)가 Accept-Encoding에 맞는 파일을 그대로 전송하므로 요청마다 압축하지 않음
+const fs = require('fs');
+const path = require('path');
+const zlib = require('zlib');
+
+const BUILD_DIR = path.join(__dirname, '..', 'build');
+const COMPRESSIBLE = /\.(js|css|html|json|svg|txt|map)$/;
+// 작은 파일은 압축 이득보다 헤더/디코딩 비용이 커서 제외
+const MIN_SIZE = 1024;
+
+function walk(dir) {
+    return fs.readdirSync(dir, { withFileTypes: true }).flatMap(entry => {
+        const fullPath = path.join(dir, entry.name);
+        return entry.isDirectory() ? walk(fullPath) : [fullPath];
+    });
+}
+
+for (const file of walk(BUILD_DIR)) {
+    if (!COMPRESSIBLE.test(file)) continue;
+    const content = fs.readFileSync(file);
+    if (content.length < MIN_SIZE) continue;
+
+    fs.writeFileSync(`${file}.gz`, zlib.gzipSync(content, { level: zlib.constants.Z_BEST_COMPRESSION }));
+    fs.writeFileSync(`${file}.br`, zlib.brotliCompressSync(content, {
+        params: {
+            [zlib.constants.BROTLI_PARAM_QUALITY]: zlib.constants.BROTLI_MAX_QUALITY,
+            [zlib.constants.BROTLI_PARAM_SIZE_HINT]: content.length,
+        },
+    }));
+}
@@ -8,8 +8,10 @@ const apiClient = axios.create({
     baseURL: API_URL,
 });
 
-// 모든 게시글 조회
-export const getAllPosts = () => apiClient.get('');
+// 게시글 피드 조회 (커서 기반 페이지네이션, cursor가 없으면 첫 페이지)
+export const getAllPosts = (cursor) => apiClient.get('', {
+    params: cursor ? { cursor } : {},
+});
 
 // 특정 게시글 조회
 export const getPostById = (id) => apiClient.get(`/${id}`);
@@ -54,6 +56,7 @@ export const updatePost = (id, postData) => {
         title: postData.title,
         content: postData.content,
         tags: postData.tags.split(',').map(tag => tag.trim()).filter(tag => tag),
+        version: postData.version, // 조회 시 받은 version (낙관적 락)
     };
     formData.append('request', new Blob([JSON.stringify(postUpdateDto)], {
         type: "application/json"
@@ -70,7 +70,9 @@ function PostDetail() {
 
             <div className="post-images">
                 {post.images && post.images.map(image => (
-                    <img key={image.id} src={image.imageUrl} alt="post content" />
+                    <a key={image.id} href={image.imageUrl} target="_blank" rel="noreferrer">
+                        <img src={image.mediumUrl} alt="post content" />
+                    </a>
                 ))}
             </div>
 
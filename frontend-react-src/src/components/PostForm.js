@@ -27,6 +27,7 @@ function PostForm() {
                         title: post.title,
                         content: post.content,
                         tags: post.tags.join(', '), // 배열을 콤마로 구분된 문자열로
+                        version: post.version, // 수정 요청 시 함께 전송 (그 사이 다른 수정이 있으면 409)
                     });
                 } catch (err) {
                     setError('게시글 정보를 불러오지 못했습니다.');
@@ -4,6 +4,7 @@ import { getAllPosts } from '../apiService';
 
 function PostList() {
     const [posts, setPosts] = useState([]);
+    const [nextCursor, setNextCursor] = useState(null);
     const [loading, setLoading] = useState(true);
     const [error, setError] = useState(null);
 
@@ -11,11 +12,14 @@ function PostList() {
         void fetchPosts();
     }, []);
 
-    const fetchPosts = async () => {
+    // cursor가 있으면 다음 페이지를 이어 붙이고, 없으면 첫 페이지를 새로 불러옴
+    const fetchPosts = async (cursor) => {
         try {
             setLoading(true);
-            const response = await getAllPosts();
-            setPosts(response.data); // API로부터 받은 데이터
+            const response = await getAllPosts(cursor);
+            const page = response.data; // { posts, nextCursor, hasNext }
+            setPosts(prev => cursor ? [...prev, ...page.posts] : page.posts);
+            setNextCursor(page.hasNext ? page.nextCursor : null);
             setError(null);
         } catch (err) {
             setError('게시글을 불러오는 데 실패했습니다.');
@@ -25,7 +29,7 @@ function PostList() {
         }
     };
 
-    if (loading) return <div>로딩 중...</div>;
+    if (loading && posts.length === 0) return <div>로딩 중...</div>;
     if (error) return <div className="error-msg">{error}</div>;
 
     return (
@@ -39,13 +43,18 @@ function PostList() {
                             <h3>{post.title}</h3>
                         </Link>
                         <p>작성자: {post.author} | 작성일: {new Date(post.createdAt).toLocaleDateString()}</p>
-                        {/* 첫 번째 이미지를 썸네일로 표시 */}
+                        {/* 첫 번째 이미지의 축소본(thumbnailUrl)을 썸네일로 표시 */}
                         {post.images && post.images.length > 0 && (
-                            <img src={post.images[0].imageUrl} alt="thumbnail" className="thumbnail" />
+                            <img src={post.images[0].thumbnailUrl} alt="thumbnail" className="thumbnail" />
                         )}
                     </div>
                 ))
             )}
+            {nextCursor && (
+                <button onClick={() => fetchPosts(nextCursor)} disabled={loading}>
+                    {loading ? '불러오는 중...' : '더 보기'}
+                </button>
+            )}
         </div>
     );
 }
@@ -0,0 +1,118 @@
+package codeit.sb06.imagepost.controller;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드 파일 전송: LocalUploadController가 실제로 사용하는 경로 비교
+ * - streamCopy: 기존 정적 리소스 방식 (요청마다 파일 열기 + 힙 버퍼 스트림 복사)
+ * - sendfile: Tomcat sendfile과 같은 방식 (요청마다 경로로 파일을 열고 소켓 채널로 transferTo, 커널 내 복사)
+ * - fallbackCopy: sendfile 미지원 시 (캐시된 채널에서 출력 스트림을 감싼 채널로 transferTo, JDK 내부 버퍼를 거치는 복사)
+ * 루프백 소켓으로 전송하고 반대편 스레드는 받은 바이트를 버립니다. (실행: ./gradlew jmh)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UploadServingBenchmark {
+
+    @Param({"65536", "1048576"})
+    private int fileSize;
+
+    private Path file;
+    private FileChannel cachedChannel;
+    private ServerSocketChannel server;
+    private SocketChannel client;
+    private Thread drainer;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Files.createTempFile("upload-serving", ".jpg");
+        byte[] content = new byte[fileSize];
+        ThreadLocalRandom.current().nextBytes(content);
+        Files.write(file, content);
+        cachedChannel = FileChannel.open(file, StandardOpenOption.READ);
+
+        server = ServerSocketChannel.open().bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        client = SocketChannel.open(server.getLocalAddress());
+        SocketChannel accepted = server.accept();
+        drainer = new Thread(() -> drain(accepted), "upload-serving-drainer");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        client.close();
+        server.close();
+        cachedChannel.close();
+        Files.deleteIfExists(file);
+    }
+
+    // 기존 방식: 요청마다 파일을 열고 힙 버퍼로 읽어 소켓 스트림에 기록
+    @Benchmark
+    public long streamCopy() throws IOException {
+        OutputStream out = client.socket().getOutputStream();
+        try (InputStream in = Files.newInputStream(file)) {
+            return in.transferTo(out);
+        }
+    }
+
+    // sendfile 지원 시: Tomcat이 sendfile 속성의 경로로 파일을 열어 소켓으로 커널 내 복사
+    @Benchmark
+    public long sendfile() throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long position = 0;
+            while (position < fileSize) {
+                position += channel.transferTo(position, fileSize - position, client);
+            }
+            return position;
+        }
+    }
+
+    // sendfile 미지원 시: 캐시된 채널에서 출력 스트림으로 복사 (대상이 소켓 채널이 아니므로 zero-copy 아님)
+    @Benchmark
+    public long fallbackCopy() throws IOException {
+        WritableByteChannel target = Channels.newChannel(client.socket().getOutputStream());
+        long position = 0;
+        while (position < fileSize) {
+            position += cachedChannel.transferTo(position, fileSize - position, target);
+        }
+        return position;
+    }
+
+    private static void drain(SocketChannel channel) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(256 * 1024);
+        try (channel) {
+            while (channel.read(buffer) >= 0) {
+                buffer.clear();
+            }
+        } catch (IOException ignored) {
+            // 벤치마크 종료 시 소켓이 닫힘
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package codeit.sb06.imagepost.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.core.session.SessionRegistry;
+import org.springframework.security.core.session.SessionRegistryImpl;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SessionRegistryImpl vs ConcurrentSessionRegistry
+ * 짧은 세션 만료(1분)로 생성/만료가 끊임없이 일어나는 상황에서,
+ * 모든 요청의 ConcurrentSessionFilter 조회(getSessionInformation/refreshLastRequest)와 로그인 시 동시 세션 검사(getAllSessions)를 함께 실행합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SessionRegistryBenchmark {
+
+    private static final int USERS = 10_000;
+    private static final int INITIAL_SESSIONS = 50_000;
+
+    @Param({"SessionRegistryImpl", "ConcurrentSessionRegistry"})
+    private String implementation;
+
+    private SessionRegistry registry;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        registry = implementation.equals("SessionRegistryImpl")
+                ? new SessionRegistryImpl()
+                : new ConcurrentSessionRegistry();
+        sequence.set(0);
+        for (int i = 0; i < INITIAL_SESSIONS; i++) {
+            createSession();
+        }
+    }
+
+    // 로그인(세션 생성)과 만료(가장 오래된 세션 제거)를 같은 속도로 반복
+    @Benchmark
+    @Group("churn")
+    @GroupThreads(2)
+    public void createAndExpire() {
+        long id = createSession();
+        registry.removeSessionInformation(sessionId(id - INITIAL_SESSIONS));
+    }
+
+    // 요청마다 실행되는 ConcurrentSessionFilter 경로
+    @Benchmark
+    @Group("churn")
+    @GroupThreads(6)
+    public void requestLookup(Blackhole blackhole) {
+        String sessionId = randomLiveSessionId();
+        blackhole.consume(registry.getSessionInformation(sessionId));
+        registry.refreshLastRequest(sessionId);
+    }
+
+    // 로그인 시 동시 세션 제한 검사 경로
+    @Benchmark
+    @Group("churn")
+    @GroupThreads(2)
+    public void concurrentSessionCheck(Blackhole blackhole) {
+        blackhole.consume(registry.getAllSessions(user(ThreadLocalRandom.current().nextInt(USERS)), false));
+    }
+
+    private long createSession() {
+        long id = sequence.getAndIncrement();
+        registry.registerNewSession(sessionId(id), user((int) (id % USERS)));
+        return id;
+    }
+
+    private String randomLiveSessionId() {
+        long newest = sequence.get();
+        return sessionId(Math.max(0, newest - 1 - ThreadLocalRandom.current().nextLong(INITIAL_SESSIONS)));
+    }
+
+    private static String sessionId(long id) {
+        return "session-" + id;
+    }
+
+    private static String user(int index) {
+        return "user-" + index;
+    }
+}
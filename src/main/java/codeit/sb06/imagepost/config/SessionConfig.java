@@ -0,0 +1,86 @@
+package codeit.sb06.imagepost.config;
+
+import codeit.sb06.imagepost.security.CachingSessionRegistry;
+import codeit.sb06.imagepost.security.ConcurrentSessionRegistry;
+import codeit.sb06.imagepost.security.MemberPrincipal;
+import codeit.sb06.imagepost.security.MemberPrincipalMixin;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.support.GenericConversionService;
+import org.springframework.core.serializer.Deserializer;
+import org.springframework.core.serializer.Serializer;
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.security.core.session.SessionRegistry;
+import org.springframework.security.jackson2.SecurityJackson2Modules;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.security.SpringSessionBackedSessionRegistry;
+
+import java.time.Duration;
+
+/**
+ * 세션 저장소 설정
+ * - 기본(local, dev): Spring Session JDBC로 기존 DataSource에 세션을 저장하여 여러 인스턴스가 세션과 동시 세션 제한을 공유
+ *   (매 요청의 세션 정보 조회는 CachingSessionRegistry의 짧은 캐시로 저장소 조회를 줄임)
+ * - build(테스트): SessionAutoConfiguration을 제외하여 컨테이너 메모리 세션과 ConcurrentSessionRegistry 사용
+ */
+@Configuration
+public class SessionConfig implements BeanClassLoaderAware {
+
+    private ClassLoader classLoader;
+
+    @Override
+    public void setBeanClassLoader(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    // 중복 세션 감지를 위한 session registry
+    // 세션 저장소가 있으면 저장소의 principal 인덱스를 조회하므로 maximumSessions(1)이 클러스터 전체에 적용됨
+    @Bean
+    public SessionRegistry sessionRegistry(
+            ObjectProvider<FindByIndexNameSessionRepository<? extends Session>> sessionRepository,
+            MeterRegistry meterRegistry,
+            @Value("${security.session-registry.cache-ttl:5s}") Duration cacheTtl) {
+        FindByIndexNameSessionRepository<? extends Session> repository = sessionRepository.getIfAvailable();
+        if (repository == null) {
+            return new ConcurrentSessionRegistry();
+        }
+        return new CachingSessionRegistry(springSessionRegistry(repository), cacheTtl, meterRegistry);
+    }
+
+    private static <S extends Session> SessionRegistry springSessionRegistry(FindByIndexNameSessionRepository<S> repository) {
+        return new SpringSessionBackedSessionRegistry<>(repository);
+    }
+
+    /**
+     * 세션 속성을 JDK 직렬화 대신 JSON으로 저장 (Spring Session이 이름으로 찾는 빈)
+     * 클래스 메타데이터가 반복되지 않아 작고, 배포 간 클래스 변경(serialVersionUID)에 덜 민감합니다.
+     */
+    @Bean("springSessionConversionService")
+    public GenericConversionService springSessionConversionService(ObjectMapper objectMapper) {
+        ObjectMapper sessionMapper = objectMapper.copy();
+        sessionMapper.registerModules(SecurityJackson2Modules.getModules(classLoader));
+        sessionMapper.addMixIn(MemberPrincipal.class, MemberPrincipalMixin.class);
+
+        GenericConversionService conversionService = new GenericConversionService();
+        conversionService.addConverter(Object.class, byte[].class,
+                new SerializingConverter(jsonSerializer(sessionMapper)));
+        conversionService.addConverter(byte[].class, Object.class,
+                new DeserializingConverter(jsonDeserializer(sessionMapper)));
+        return conversionService;
+    }
+
+    private static Serializer<Object> jsonSerializer(ObjectMapper mapper) {
+        return (object, outputStream) -> mapper.writeValue(outputStream, object);
+    }
+
+    private static Deserializer<Object> jsonDeserializer(ObjectMapper mapper) {
+        return inputStream -> mapper.readValue(inputStream, Object.class);
+    }
+}
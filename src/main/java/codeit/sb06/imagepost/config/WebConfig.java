@@ -1,40 +1,41 @@
 package codeit.sb06.imagepost.config;
 
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
 import org.springframework.web.servlet.resource.PathResourceResolver;
 
-import java.io.IOException;
+import java.time.Duration;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
-    @Value("${file.upload-dir:}")
-    private String uploadDir;
+    private static final String APP_LOCATION = "classpath:/static/app/";
 
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        // --- 1. 'local' 프로필용 업로드 파일 서빙 (/uploads/**) ---
-        if (uploadDir != null && !uploadDir.isEmpty()) {
-            registry.addResourceHandler("/uploads/**")
-                    .addResourceLocations("file:" + uploadDir);
-        }
+        // 'local' 프로필의 업로드 파일(/uploads/**)은 LocalUploadController가 서빙 (sendfile, Range, immutable 캐시)
+        // SPA 경로와 index.html은 AppController가 메모리에 캐시한 내용으로 응답
 
-        // --- 2. React 정적 리소스 서빙 (/app/**) ---
-        // 여기서는 실제 존재하는 파일만 처리하도록 합니다.
+        // --- React 정적 리소스 서빙 (/app/**) ---
+        // resourceChain(true): 경로 해석 결과를 Accept-Encoding별로 메모리에 캐시 (요청마다 파일 존재 여부를 확인하지 않음)
+        // EncodedResourceResolver: 빌드 시 생성한 .br/.gz 파일이 있으면 Content-Encoding과 함께 그대로 전송
+        // CRA 빌드의 static/ 하위 파일은 파일명에 내용 해시가 포함되므로(main.3f2a1b.js) 1년간 재검증 없이 캐싱
+        registry.addResourceHandler("/app/static/**")
+                .addResourceLocations(APP_LOCATION + "static/")
+                .setCacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new PathResourceResolver());
+
+        // 그 외(manifest.json, favicon 등)는 파일명이 고정이므로 매번 재검증 (Last-Modified로 304)
         registry.addResourceHandler("/app/**")
-                .addResourceLocations("classpath:/static/app/")
+                .addResourceLocations(APP_LOCATION)
+                .setCacheControl(CacheControl.noCache())
                 .resourceChain(true)
-                .addResolver(new PathResourceResolver() {
-                    @Override
-                    protected Resource getResource(String resourcePath, Resource location) throws IOException {
-                        Resource requestedResource = location.createRelative(resourcePath);
-                        // 파일이 존재하고 읽기 가능하면 반환, 아니면 null 반환 (SPA 경로는 SpaController가 처리)
-                        return requestedResource.exists() && requestedResource.isReadable() ? requestedResource : null;
-                    }
-                });
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new PathResourceResolver());
     }
-}
\ No newline at end of file
+}
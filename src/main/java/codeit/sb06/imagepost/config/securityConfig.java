@@ -4,40 +4,59 @@ import codeit.sb06.imagepost.entity.Member;
 import codeit.sb06.imagepost.entity.Role;
 import codeit.sb06.imagepost.repository.MemberRepository;
 import codeit.sb06.imagepost.security.ApiInvalidSessionStrategy;
+import codeit.sb06.imagepost.security.BCryptCostCalibrator;
+import codeit.sb06.imagepost.security.BoundedPasswordEncoder;
 import codeit.sb06.imagepost.security.ApiSessionExpiredStrategy;
+import codeit.sb06.imagepost.security.CachingPersistentTokenRepository;
+import codeit.sb06.imagepost.security.LoginAttemptLimiter;
+import codeit.sb06.imagepost.security.LoginRateLimitFilter;
 import codeit.sb06.imagepost.security.RestAuthenticationFailureHandler;
 import codeit.sb06.imagepost.security.RestAuthenticationSuccessHandler;
+import codeit.sb06.imagepost.security.TokenReloadingRememberMeServices;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.session.SessionRegistry;
-import org.springframework.security.core.session.SessionRegistryImpl;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.authentication.rememberme.JdbcTokenRepositoryImpl;
-import org.springframework.security.web.authentication.rememberme.PersistentTokenRepository;
 import org.springframework.security.web.session.HttpSessionEventPublisher;
 
 import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
 
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
 public class securityConfig {
+    private static final int REMEMBER_ME_VALIDITY_SECONDS = 60 * 60 * 24 * 14;
+    private static final String LOGIN_PROCESSING_URL = "/api/login";
+    private static final String REMEMBER_ME_KEY = "server-key";
+
     private final ObjectMapper mapper;
     private final UserDetailsService userDetailsService;
     private final DataSource dataSource;
+    private final LoginAttemptLimiter loginAttemptLimiter;
+
+    // Remember-Me 토큰 조회 캐시 보관 시간 (다른 인스턴스의 토큰 갱신이 늦게 보이는 시간의 상한)
+    @Value("${security.remember-me.cache-ttl:30s}")
+    private Duration rememberMeCacheTtl;
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, SessionRegistry sessionRegistry) throws Exception {
         http
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(HttpMethod.GET, "/api/posts/**").permitAll()
@@ -46,19 +65,19 @@ public class securityConfig {
                 )
                 .csrf(csrf -> csrf.disable())
 
-                .rememberMe(remember -> remember
-                        .key("server-key")
-                        .tokenValiditySeconds(60 * 60 * 24 * 14)
-                        .rememberMeParameter("remember-me")
+                // 로그인 실패가 많은 IP/계정은 비밀번호 검증 전에 429로 차단
+                .addFilterBefore(new LoginRateLimitFilter(mapper, loginAttemptLimiter, LOGIN_PROCESSING_URL),
+                        UsernamePasswordAuthenticationFilter.class)
 
-                        .tokenRepository(tokenRepository())
-                        .userDetailsService(userDetailsService)
+                .rememberMe(remember -> remember
+                        .key(REMEMBER_ME_KEY)
+                        .rememberMeServices(rememberMeServices())
                 )
 
                 .formLogin(form -> form
-                        .loginProcessingUrl("/api/login")
-                        .successHandler(new RestAuthenticationSuccessHandler(mapper))
-                        .failureHandler(new RestAuthenticationFailureHandler(mapper))
+                        .loginProcessingUrl(LOGIN_PROCESSING_URL)
+                        .successHandler(new RestAuthenticationSuccessHandler(mapper, loginAttemptLimiter))
+                        .failureHandler(new RestAuthenticationFailureHandler(mapper, loginAttemptLimiter))
                         .permitAll()
                 ).
                 sessionManagement(session -> session
@@ -72,7 +91,7 @@ public class securityConfig {
                                 .maximumSessions(1)                 // 최대 허용 세션 1개
                                 .maxSessionsPreventsLogin(false)    // false: 기존 세션 만료 (밀어내기), true: 신규 로그인 차단
                                 .expiredSessionStrategy(new ApiSessionExpiredStrategy(mapper))   // 세션 만료 시 이동할 URL (API 환경에서는 핸들러 처리가 더 적합할 수 있음)
-                                .sessionRegistry(sessionRegistry())
+                                .sessionRegistry(sessionRegistry)   // SessionConfig 참고 (JDBC 세션 저장소 사용 시 클러스터 전체에 적용)
                         )
                 )
                 .logout(logout -> logout
@@ -83,9 +102,26 @@ public class securityConfig {
         return http.build();
     }
 
+    /**
+     * {id} 접두사로 알고리즘을 구분하는 DelegatingPasswordEncoder
+     * - 접두사 없는 기존 BCrypt 해시도 검증하며, 로그인 시 현재 설정({bcrypt}, 현재 강도)으로 다시 저장됨 (UserDetailsPasswordService)
+     * - bcrypt-target-ms를 지정하면 기동 시 이 호스트에서 목표 시간을 넘지 않는 강도로 보정
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${security.password.bcrypt-strength:10}") int strength,
+            @Value("${security.password.bcrypt-target-ms:0}") long targetMillis,
+            @Value("${security.password.max-concurrent-hashes:0}") int maxConcurrentHashes,
+            @Value("${security.password.hash-wait-timeout:2s}") Duration hashWaitTimeout
+    ) {
+        int bcryptStrength = targetMillis > 0 ? BCryptCostCalibrator.calibrate(targetMillis) : strength;
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        int permits = maxConcurrentHashes > 0 ? maxConcurrentHashes : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(delegating, permits, hashWaitTimeout);
     }
 
     @Bean
@@ -108,23 +144,28 @@ public class securityConfig {
         };
     }
 
-    // [추가] 중복 세션 감지를 위한 session registry
-    // 실제 세션의 메타데이터 저장소이자 세션을 관리하는 역할
-    @Bean
-    public SessionRegistry sessionRegistry() {
-        return new SessionRegistryImpl();
-    }
-
     // [추가] 서블릿 세션 이벤트를 Spring Security로 연결하는 리스너
     @Bean
     public HttpSessionEventPublisher httpSessionEventPublisher() {
         return new HttpSessionEventPublisher();
     }
 
+    // 자동 로그인마다 발생하던 토큰 SELECT를 짧은 캐시로 대체 (갱신은 즉시 반영)
     @Bean
-    public PersistentTokenRepository tokenRepository() {
+    public CachingPersistentTokenRepository tokenRepository() {
         JdbcTokenRepositoryImpl repo = new JdbcTokenRepositoryImpl();
         repo.setDataSource(dataSource);
-        return repo;
+        return new CachingPersistentTokenRepository(repo, new JdbcTemplate(dataSource),
+                Duration.ofSeconds(REMEMBER_ME_VALIDITY_SECONDS), rememberMeCacheTtl);
+    }
+
+    // 캐시된 토큰이 쿠키와 다르면 DB를 다시 확인한 뒤 탈취 여부를 판단
+    @Bean
+    public TokenReloadingRememberMeServices rememberMeServices() {
+        TokenReloadingRememberMeServices services =
+                new TokenReloadingRememberMeServices(REMEMBER_ME_KEY, userDetailsService, tokenRepository());
+        services.setTokenValiditySeconds(REMEMBER_ME_VALIDITY_SECONDS);
+        services.setParameter("remember-me");
+        return services;
     }
 }
@@ -1,13 +1,140 @@
 package codeit.sb06.imagepost.controller;
 
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
-import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+@Slf4j
 @Controller
 public class AppController {
 
-    @RequestMapping(value = {"/app", "/app/{path:^(?!api|static|uploads)[^.]*}/**"})
-    public String forwardApp() {
-        return "forward:/app/index.html";
+    private static final String INDEX_HTML = "static/app/index.html";
+    private static final String BROTLI = "br";
+    private static final String GZIP = "gzip";
+
+    // index.html (원본/gzip/brotli)은 기동 시 한 번 읽어 메모리에 보관 (FE 빌드가 없으면 null)
+    // brotli는 빌드 시 생성한 index.html.br이 있을 때만 사용 (작은 파일은 빌드에서 압축하지 않음)
+    private byte[] indexHtml;
+    private byte[] gzippedIndexHtml;
+    private byte[] brotliIndexHtml;
+    private String indexETag;
+
+    @PostConstruct
+    public void loadIndexHtml() {
+        Resource resource = new ClassPathResource(INDEX_HTML);
+        if (!resource.exists()) {
+            log.info("FE 빌드 결과물이 없어 /app 경로를 서빙하지 않습니다: {}", INDEX_HTML);
+            return;
+        }
+        try (InputStream in = resource.getInputStream()) {
+            indexHtml = in.readAllBytes();
+            gzippedIndexHtml = gzip(indexHtml);
+            brotliIndexHtml = readIfExists(new ClassPathResource(INDEX_HTML + ".br"));
+            indexETag = DigestUtils.md5DigestAsHex(indexHtml);
+        } catch (IOException e) {
+            throw new IllegalStateException("index.html을 읽을 수 없습니다.", e);
+        }
+    }
+
+    // SPA 경로(/app, /app/post/1 등)는 forward 없이 캐시된 index.html로 바로 응답
+    // index.html은 새 빌드의 해시 파일명을 가리켜야 하므로 매번 ETag로 재검증
+    @GetMapping(value = {"/app", "/app/", "/app/index.html", "/app/{path:^(?!api|static|uploads)[^.]*}/**"})
+    public ResponseEntity<byte[]> forwardApp(WebRequest webRequest) {
+        if (indexHtml == null) {
+            return ResponseEntity.notFound().build();
+        }
+        // 인코딩별로 내용이 다르므로 ETag도 구분
+        String encoding = selectEncoding(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING), brotliIndexHtml != null);
+        if (webRequest.checkNotModified(encoding != null ? indexETag + "-" + encoding : indexETag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(CacheControl.noCache())
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.TEXT_HTML)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (encoding != null) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, encoding);
+        }
+        return builder.body(BROTLI.equals(encoding) ? brotliIndexHtml : GZIP.equals(encoding) ? gzippedIndexHtml : indexHtml);
+    }
+
+    /**
+     * Accept-Encoding의 q 값을 기준으로 응답 인코딩을 고릅니다. (br 또는 gzip, 둘 다 허용되지 않으면 null = 원본)
+     * q=0은 허용하지 않음을 뜻하고, 목록에 없는 인코딩은 "*"의 q 값을 따릅니다. q 값이 같으면 더 작은 br을 우선합니다.
+     */
+    static String selectEncoding(String acceptEncoding, boolean brotliAvailable) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return null;
+        }
+        Map<String, Double> qualities = new HashMap<>();
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.split(";");
+            String coding = tokens[0].trim().toLowerCase(Locale.ROOT);
+            if (!coding.isEmpty()) {
+                qualities.put(coding, parseQuality(tokens));
+            }
+        }
+        double wildcard = qualities.getOrDefault("*", 0.0);
+        double brotli = brotliAvailable ? qualities.getOrDefault(BROTLI, wildcard) : 0.0;
+        double gzip = qualities.getOrDefault(GZIP, wildcard);
+        if (brotli > 0 && brotli >= gzip) {
+            return BROTLI;
+        }
+        return gzip > 0 ? GZIP : null;
+    }
+
+    // ";q=0.5" 형식의 가중치 (없으면 1, 형식이 잘못되었으면 허용하지 않는 것으로 간주)
+    private static double parseQuality(String[] tokens) {
+        for (int i = 1; i < tokens.length; i++) {
+            String parameter = tokens[i].trim();
+            if (parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                try {
+                    double quality = Double.parseDouble(parameter.substring(2).trim());
+                    return quality >= 0 && quality <= 1 ? quality : 0.0;
+                } catch (NumberFormatException e) {
+                    return 0.0;
+                }
+            }
+        }
+        return 1.0;
+    }
+
+    private static byte[] readIfExists(Resource resource) throws IOException {
+        if (!resource.exists()) {
+            return null;
+        }
+        try (InputStream in = resource.getInputStream()) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length);
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(content);
+        }
+        return out.toByteArray();
     }
 }
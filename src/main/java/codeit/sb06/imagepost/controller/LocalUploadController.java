@@ -0,0 +1,179 @@
+package codeit.sb06.imagepost.controller;
+
+import codeit.sb06.imagepost.exception.ErrorCode;
+import codeit.sb06.imagepost.exception.FileUploadException;
+import codeit.sb06.imagepost.service.LocalFileHandleCache;
+import codeit.sb06.imagepost.service.LocalFileStorageService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.time.Duration;
+import java.util.List;
+import java.util.regex.Pattern;
+
+// 로컬 환경에서 S3를 대신하는 업로드(Presigned PUT 대체)와 업로드 파일 서빙(/uploads/**) 엔드포인트
+@RestController
+@Profile({"local", "build"})
+@RequiredArgsConstructor
+public class LocalUploadController {
+
+    // Tomcat sendfile 요청 속성 (응답 본문을 커널에서 소켓으로 바로 복사, NIO 커넥터에서 지원)
+    private static final String SENDFILE_SUPPORT_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    // 내용 해시(SHA-256, 축소 이미지 포함) 또는 UUID 파일명: 같은 이름의 내용이 바뀌지 않으므로 1년간 재검증 없이 캐싱
+    private static final Pattern IMMUTABLE_FILE_NAME = Pattern.compile(
+            "([0-9a-f]{64}(_[a-z]+)?|(direct-)?[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12})(\\.[A-Za-z0-9]{1,10})?");
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+    private static final CacheControl REVALIDATE = CacheControl.noCache();
+
+    private final LocalFileStorageService localFileStorageService;
+    private final LocalFileHandleCache localFileHandleCache;
+
+    @Value("${spring.servlet.multipart.max-file-size}")
+    private DataSize maxFileSize;
+
+    // 발급된 파일명으로만 1회 업로드 가능 (Presigned URL과 마찬가지로 URL 자체가 권한 역할)
+    @PutMapping("/api/uploads/{fileName:.+}")
+    public ResponseEntity<Void> upload(@PathVariable String fileName, HttpServletRequest request) throws IOException {
+        long contentLength = request.getContentLengthLong();
+        if (contentLength <= 0 || contentLength > maxFileSize.toBytes()) {
+            throw new FileUploadException(ErrorCode.INVALID_FILE_SIZE.getMessage());
+        }
+
+        localFileStorageService.acceptDirectUpload(fileName, request.getContentType(), request.getInputStream(), contentLength);
+        return ResponseEntity.ok().build();
+    }
+
+    /**
+     * 업로드 파일 서빙 (ETag/Last-Modified 조건부 요청, 단일 Range 요청 지원)
+     * 본문은 Tomcat sendfile로 전송하고, 지원하지 않는 환경에서는 캐시된 FileChannel에서 응답 스트림으로 복사합니다.
+     */
+    @GetMapping("/uploads/{fileName:.+}")
+    public void serve(@PathVariable String fileName, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        LocalFileHandleCache.OpenFile opened = LocalFileStorageService.isTemporaryFile(fileName)
+                ? null
+                : localFileHandleCache.open(fileName).orElse(null);
+        if (opened == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        // 전송이 끝날 때까지 핸들의 참조를 유지 (그 사이 캐시에서 제거되어도 채널이 닫히지 않음)
+        try (LocalFileHandleCache.OpenFile file = opened) {
+            writeFile(fileName, file, request, response);
+        }
+    }
+
+    private void writeFile(String fileName, LocalFileHandleCache.OpenFile file,
+                           HttpServletRequest request, HttpServletResponse response) throws IOException {
+        boolean immutable = IMMUTABLE_FILE_NAME.matcher(fileName).matches();
+        String eTag = immutable ? fileName : fileName + "-" + file.size() + "-" + file.lastModified();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, (immutable ? IMMUTABLE : REVALIDATE).getHeaderValue());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        // If-None-Match/If-Modified-Since 확인 (ETag/Last-Modified 헤더도 함께 설정)
+        if (new ServletWebRequest(request, response).checkNotModified(eTag, file.lastModified())) {
+            return;
+        }
+
+        long start = 0;
+        long end = file.size() - 1;
+        HttpRange range = resolveRange(request, response.getHeader(HttpHeaders.ETAG), file.lastModified());
+        if (range != null) {
+            if (file.size() == 0 || range.getRangeStart(file.size()) >= file.size()) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + file.size());
+                response.sendError(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                return;
+            }
+            start = range.getRangeStart(file.size());
+            end = range.getRangeEnd(file.size());
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + file.size());
+        }
+
+        long length = end - start + 1;
+        response.setContentType(MediaTypeFactory.getMediaType(fileName)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                .toString());
+        response.setContentLengthLong(length);
+        if (HttpMethod.HEAD.matches(request.getMethod()) || length == 0) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTR))) {
+            // 응답 본문을 쓰지 않고 속성만 지정하면, 서블릿 처리가 끝난 뒤 Tomcat이 파일을 직접 열어 sendfile로 전송
+            request.setAttribute(SENDFILE_FILENAME_ATTR, file.path().toString());
+            request.setAttribute(SENDFILE_START_ATTR, start);
+            request.setAttribute(SENDFILE_END_ATTR, end + 1);
+            return;
+        }
+
+        // sendfile 미지원 시: 캐시된 채널에서 위치 지정 transferTo (여러 요청이 같은 채널을 공유)
+        // 대상이 소켓이 아닌 서블릿 출력 스트림이므로 커널 내 복사(zero-copy)가 아니라 JDK 내부 버퍼를 거쳐 복사됨
+        WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+        long position = start;
+        while (position <= end) {
+            long transferred = file.channel().transferTo(position, end - position + 1, target);
+            if (transferred <= 0) {
+                break;
+            }
+            position += transferred;
+        }
+    }
+
+    // 단일 Range 요청만 처리 (형식이 잘못되었거나 여러 구간이면 전체 응답, If-Range가 현재 버전과 다르면 전체 응답)
+    static HttpRange resolveRange(HttpServletRequest request, String eTag, long lastModified) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null || !matchesIfRange(request, eTag, lastModified)) {
+            return null;
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static boolean matchesIfRange(HttpServletRequest request, String eTag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        // If-Range는 강한 비교만 허용하므로 약한 ETag(W/)는 항상 불일치로 보고 전체 응답 (RFC 9110 13.1.5)
+        if (ifRange.startsWith("W/")) {
+            return false;
+        }
+        if (ifRange.startsWith("\"")) {
+            return ifRange.equals(eTag);
+        }
+        try {
+            // HTTP 날짜는 초 단위이므로 초 단위로 비교
+            return request.getDateHeader(HttpHeaders.IF_RANGE) / 1000 == lastModified / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
@@ -1,18 +1,36 @@
 package codeit.sb06.imagepost.controller;
 
+import codeit.sb06.imagepost.dto.ResourceVersion;
 import codeit.sb06.imagepost.dto.request.PostCreateRequest;
 import codeit.sb06.imagepost.dto.request.PostDeleteRequest;
+import codeit.sb06.imagepost.dto.request.PostImageFinalizeRequest;
 import codeit.sb06.imagepost.dto.request.PostUpdateRequest;
+import codeit.sb06.imagepost.dto.request.UploadUrlRequest;
+import codeit.sb06.imagepost.dto.response.PostBatchResponse;
+import codeit.sb06.imagepost.dto.response.PostPageResponse;
+import codeit.sb06.imagepost.dto.response.PostPermissionResponse;
 import codeit.sb06.imagepost.dto.response.PostResponse;
+import codeit.sb06.imagepost.dto.response.UploadUrlResponse;
+import codeit.sb06.imagepost.exception.ErrorCode;
+import codeit.sb06.imagepost.exception.FileUploadException;
 import codeit.sb06.imagepost.service.PostService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -22,6 +40,14 @@ public class PostController {
 
     private final PostService postService;
 
+    // 브라우저가 응답을 보관하되 매번 ETag로 재검증하도록 지정
+    // (직접 지정하지 않으면 Spring Security가 no-store를 추가해 조건부 요청이 발생하지 않음)
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    // multipart 업로드와 동일한 파일 크기 제한을 스트리밍 업로드에도 적용
+    @Value("${spring.servlet.multipart.max-file-size}")
+    private DataSize maxFileSize;
+
     // 'consumes'를 통해 JSON(@RequestPart("request"))과 FormData(@RequestPart("images"))를 함께 받도록 설정
     @PostMapping(consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.MULTIPART_FORM_DATA_VALUE})
     public ResponseEntity<PostResponse> createPost(
@@ -42,6 +68,45 @@ public class PostController {
         return ResponseEntity.ok(response);
     }
 
+    // 이미지 1개를 요청 본문(raw bytes) 그대로 스트리밍하여 추가
+    // multipart와 달리 임시 파일/메모리에 스풀링하지 않고 스토리지로 바로 전달됨
+    @PostMapping(value = "/{id}/images", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<PostResponse> addImage(
+            @PathVariable Long id,
+            @RequestHeader("X-File-Name") String encodedFileName,
+            HttpServletRequest request
+    ) throws IOException {
+        long contentLength = request.getContentLengthLong();
+        if (contentLength <= 0 || contentLength > maxFileSize.toBytes()) {
+            throw new FileUploadException(ErrorCode.INVALID_FILE_SIZE.getMessage());
+        }
+
+        String fileName = URLDecoder.decode(encodedFileName, StandardCharsets.UTF_8);
+        String contentType = MediaTypeFactory.getMediaType(fileName)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                .toString();
+
+        PostResponse response = postService.addImage(id, request.getInputStream(), contentLength, fileName, contentType);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    // 1단계: 스토리지 직접 업로드 URL 발급 (클라이언트는 응답의 uploadUrl로 파일을 PUT)
+    @PostMapping(value = "/uploads", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<UploadUrlResponse>> issueUploadUrls(@Valid @RequestBody UploadUrlRequest request) {
+        List<UploadUrlResponse> response = postService.issueUploadUrls(request);
+        return ResponseEntity.ok(response);
+    }
+
+    // 2단계: 업로드가 끝난 파일을 확인하고 게시글 이미지로 등록
+    @PostMapping(value = "/{id}/images", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<PostResponse> finalizeImages(
+            @PathVariable Long id,
+            @Valid @RequestBody PostImageFinalizeRequest request
+    ) {
+        PostResponse response = postService.finalizeImages(id, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deletePost(
             @PathVariable Long id
@@ -50,15 +115,47 @@ public class PostController {
         return ResponseEntity.noContent().build();
     }
 
+    // 조건부 요청 지원: 버전(ETag/Last-Modified)만 먼저 확인하고, 변경이 없으면 본문 조회 없이 304 응답
     @GetMapping("/{id}")
-    public ResponseEntity<PostResponse> getPost(@PathVariable Long id) {
+    public ResponseEntity<PostResponse> getPost(@PathVariable Long id, WebRequest webRequest) {
+        ResourceVersion version = postService.getPostVersion(id);
+        if (webRequest.checkNotModified(version.eTag(), version.lastModified())) {
+            // 304 Not Modified (ETag/Last-Modified 헤더는 checkNotModified가 설정)
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
+        }
         PostResponse response = postService.getPostById(id);
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(response);
+    }
+
+    // ID 목록 일괄 조회 (예: GET /api/posts?ids=3,1,2, 최대 50개)
+    @GetMapping(params = "ids")
+    public ResponseEntity<PostBatchResponse> getPostsByIds(@RequestParam List<Long> ids) {
+        PostBatchResponse response = postService.findPostsByIds(ids);
         return ResponseEntity.ok(response);
     }
 
+    // 여러 게시글에 대한 일괄 권한 검사 (예: GET /api/posts/permissions?ids=1,2,3&permission=UPDATE, permission은 UPDATE/DELETE만 허용)
+    @GetMapping("/permissions")
+    public ResponseEntity<PostPermissionResponse> getPermissions(
+            @RequestParam List<Long> ids,
+            @RequestParam(defaultValue = "UPDATE") String permission
+    ) {
+        PostPermissionResponse response = postService.findPermittedPostIds(ids, permission);
+        return ResponseEntity.ok(response);
+    }
+
+    // 커서 기반 피드 조회 (cursor 미지정 시 첫 페이지)
     @GetMapping
-    public ResponseEntity<List<PostResponse>> getAllPosts() {
-        List<PostResponse> responses = postService.findAllPosts();
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<PostPageResponse> getAllPosts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest webRequest
+    ) {
+        ResourceVersion version = postService.getFeedVersion();
+        if (webRequest.checkNotModified(version.eTag(), version.lastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
+        }
+        PostPageResponse response = postService.findFeed(cursor, size);
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(response);
     }
 }
\ No newline at end of file
@@ -1,12 +1,30 @@
 package codeit.sb06.imagepost.dto;
 
+import codeit.sb06.imagepost.util.StorageUrls;
+
+import java.util.List;
+
 /**
  * 파일 저장 후 서비스 계층에서 반환할 메타데이터
  * @param storageUrl 스토리지에 저장된 URL (S3 URL 또는 로컬 웹 경로)
  * @param originalFileName 원본 파일명
+ * @param thumbnailUrl 썸네일 변형의 storageUrl (생성되지 않았으면 null)
+ * @param mediumUrl 중간 크기 변형의 storageUrl (생성되지 않았으면 null)
+ * @param contentHash 원본의 SHA-256 (내용 기반 저장 이전에 등록된 파일은 null)
  */
 public record FileMetaData(
         String storageUrl,
-        String originalFileName
+        String originalFileName,
+        String thumbnailUrl,
+        String mediumUrl,
+        String contentHash
 ) {
-}
\ No newline at end of file
+    public FileMetaData(String storageUrl, String originalFileName) {
+        this(storageUrl, originalFileName, null, null, null);
+    }
+
+    // 원본과 변형을 포함해 스토리지에 실제로 저장된 모든 URL
+    public List<String> storageUrls() {
+        return StorageUrls.of(storageUrl, thumbnailUrl, mediumUrl);
+    }
+}
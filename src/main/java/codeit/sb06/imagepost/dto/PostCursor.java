@@ -0,0 +1,45 @@
+package codeit.sb06.imagepost.dto;
+
+import codeit.sb06.imagepost.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 피드 키셋(Keyset) 페이지네이션 커서
+ * (createdAt DESC, id DESC) 정렬 기준으로 마지막으로 조회한 게시글의 위치를 나타냅니다.
+ * @param createdAt 마지막 게시글의 작성 시각
+ * @param id 마지막 게시글의 ID (작성 시각이 같은 게시글 간의 순서 보장)
+ */
+public record PostCursor(
+        LocalDateTime createdAt,
+        Long id
+) {
+    private static final String DELIMITER = "_";
+
+    // 클라이언트에 전달할 불투명(opaque) 토큰으로 인코딩
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PostCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.lastIndexOf(DELIMITER);
+            if (delimiterIndex < 0) {
+                throw new InvalidCursorException("커서 형식이 올바르지 않습니다: " + token);
+            }
+            return new PostCursor(
+                    LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+                    Long.parseLong(raw.substring(delimiterIndex + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // NumberFormatException은 IllegalArgumentException의 하위 타입
+            throw new InvalidCursorException("커서 형식이 올바르지 않습니다: " + token);
+        }
+    }
+}
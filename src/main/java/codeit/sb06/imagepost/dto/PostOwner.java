@@ -0,0 +1,14 @@
+package codeit.sb06.imagepost.dto;
+
+/**
+ * 권한 검사용 게시글 소유자 정보 (Post 엔티티 전체를 로딩하지 않는 Projection)
+ * @param postId 게시글 ID
+ * @param authorId 작성자 Member ID
+ * @param authorUsername 작성자 username (Authentication#getName과 비교)
+ */
+public record PostOwner(
+        Long postId,
+        Long authorId,
+        String authorUsername
+) {
+}
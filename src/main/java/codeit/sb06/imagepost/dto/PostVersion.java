@@ -0,0 +1,14 @@
+package codeit.sb06.imagepost.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 조건부 요청용 게시글 버전 Projection (본문/연관 엔티티를 로딩하지 않음)
+ * @param version 낙관적 락 버전 (변경될 때마다 증가)
+ * @param lastModified 마지막 수정 시각 (수정 기록이 없는 이전 데이터는 작성 시각)
+ */
+public record PostVersion(
+        Long version,
+        LocalDateTime lastModified
+) {
+}
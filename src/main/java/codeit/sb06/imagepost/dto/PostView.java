@@ -0,0 +1,73 @@
+package codeit.sb06.imagepost.dto;
+
+import codeit.sb06.imagepost.entity.Post;
+import codeit.sb06.imagepost.entity.PostImage;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 게시글 상세 캐시에 보관하는 조회 결과 (엔티티와 분리된 불변 값)
+ * 이미지는 스토리지 Key만 보관하고, 조회 URL(Presigned URL 등)은 응답 시점에 변환합니다. (만료된 URL을 캐싱하지 않음)
+ */
+public record PostView(
+        Long id,
+        String author,
+        String title,
+        String content,
+        List<String> tags,
+        List<Image> images,
+        LocalDateTime createdAt,
+        Long version,
+        LocalDateTime lastModifiedAt // 조건부 요청(ETag/Last-Modified)용, 응답 본문에는 포함하지 않음
+) {
+    // 레코드/리스트 등 객체 헤더를 포함한 대략적인 고정 비용 (byte)
+    private static final int BASE_WEIGHT = 256;
+    private static final int IMAGE_WEIGHT = 96;
+
+    public record Image(Long id, String storageUrl, String thumbnailUrl, String mediumUrl) {
+    }
+
+    // 트랜잭션 안에서 호출 (지연 로딩 컬렉션을 복사해 엔티티와의 연결을 끊음)
+    public static PostView from(Post post, String authorUsername) {
+        List<Image> images = post.getImages() == null ? Collections.emptyList() : post.getImages().stream()
+                .map(PostView::toImage)
+                .toList();
+        return new PostView(
+                post.getId(),
+                authorUsername,
+                post.getTitle(),
+                post.getContent(),
+                post.getTags() != null ? List.copyOf(new ArrayList<>(post.getTags())) : Collections.emptyList(),
+                images,
+                post.getCreatedAt(),
+                post.getVersion(),
+                // 수정 기록이 없는 이전 데이터는 작성 시각
+                post.getUpdatedAt() != null ? post.getUpdatedAt() : post.getCreatedAt()
+        );
+    }
+
+    /**
+     * 캐시 용량 계산용 예상 메모리 크기 (byte, 문자열은 UTF-16 기준의 상한)
+     */
+    public int estimateSize() {
+        long size = BASE_WEIGHT + length(author) + length(title) + length(content);
+        for (String tag : tags) {
+            size += length(tag);
+        }
+        for (Image image : images) {
+            size += IMAGE_WEIGHT + length(image.storageUrl()) + length(image.thumbnailUrl()) + length(image.mediumUrl());
+        }
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    private static Image toImage(PostImage image) {
+        return new Image(image.getId(), image.getStorageUrl(), image.getThumbnailUrl(), image.getMediumUrl());
+    }
+
+    private static long length(String value) {
+        return value == null ? 0 : 2L * value.length();
+    }
+}
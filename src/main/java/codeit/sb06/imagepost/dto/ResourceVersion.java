@@ -0,0 +1,12 @@
+package codeit.sb06.imagepost.dto;
+
+/**
+ * HTTP 조건부 요청(If-None-Match/If-Modified-Since) 판단용 리소스 버전
+ * @param eTag 강한 ETag 값 (따옴표 제외)
+ * @param lastModified 마지막 수정 시각 (epoch millis, 알 수 없으면 -1)
+ */
+public record ResourceVersion(
+        String eTag,
+        long lastModified
+) {
+}
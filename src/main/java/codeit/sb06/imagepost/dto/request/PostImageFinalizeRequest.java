@@ -0,0 +1,24 @@
+package codeit.sb06.imagepost.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+// 스토리지에 직접 업로드한 파일을 게시글 이미지로 등록하는 요청
+public record PostImageFinalizeRequest(
+        @NotEmpty(message = "등록할 이미지 정보는 필수입니다.")
+        @Size(max = 5, message = "파일은 최대 5개까지 업로드할 수 있습니다.")
+        List<@Valid UploadedImage> images
+) {
+    public record UploadedImage(
+            @NotBlank(message = "uploadKey는 필수입니다.")
+            String uploadKey,
+
+            @NotBlank(message = "파일명은 필수입니다.")
+            String originalFileName
+    ) {
+    }
+}
@@ -15,6 +15,9 @@ public record PostUpdateRequest(
         @ValidContent
         String content,
 
-        List<@NotBlank(message = "태그는 공백일 수 없습니다.") String> tags
+        List<@NotBlank(message = "태그는 공백일 수 없습니다.") String> tags,
+
+        // 조회 시 받은 version (지정하면 그 사이 다른 수정이 있었을 때 409 Conflict)
+        Long version
 ) {
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package codeit.sb06.imagepost.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+// 스토리지 직접 업로드 URL 발급 요청
+public record UploadUrlRequest(
+        @NotEmpty(message = "업로드할 파일 정보는 필수입니다.")
+        @Size(max = 5, message = "파일은 최대 5개까지 업로드할 수 있습니다.")
+        List<@Valid UploadFile> files
+) {
+    public record UploadFile(
+            @NotBlank(message = "파일명은 필수입니다.")
+            String fileName,
+
+            @NotBlank(message = "Content-Type은 필수입니다.")
+            String contentType
+    ) {
+    }
+}
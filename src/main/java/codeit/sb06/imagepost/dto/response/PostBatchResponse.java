@@ -0,0 +1,13 @@
+package codeit.sb06.imagepost.dto.response;
+
+import lombok.Builder;
+
+import java.util.List;
+
+// ID 목록 일괄 조회 결과 (없는 게시글은 실패 대신 missingIds로 전달)
+@Builder
+public record PostBatchResponse(
+        List<PostResponse> posts, // 요청한 ID 순서를 유지
+        List<Long> missingIds
+) {
+}
@@ -6,12 +6,16 @@ import lombok.Builder;
 @Builder
 public record PostImageResponse(
         Long id,
-        String imageUrl
+        String imageUrl,
+        String thumbnailUrl, // 목록용 축소 이미지 (없으면 원본 URL)
+        String mediumUrl     // 상세용 축소 이미지 (없으면 원본 URL)
 ) {
     public static PostImageResponse from(PostImage image) {
         return PostImageResponse.builder()
                 .id(image.getId())
                 .imageUrl(image.getStorageUrl())
+                .thumbnailUrl(image.getThumbnailUrl() != null ? image.getThumbnailUrl() : image.getStorageUrl())
+                .mediumUrl(image.getMediumUrl() != null ? image.getMediumUrl() : image.getStorageUrl())
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package codeit.sb06.imagepost.dto.response;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record PostPageResponse(
+        List<PostResponse> posts,
+        String nextCursor, // 다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+        boolean hasNext
+) {
+}
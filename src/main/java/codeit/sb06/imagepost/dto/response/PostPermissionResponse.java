@@ -0,0 +1,13 @@
+package codeit.sb06.imagepost.dto.response;
+
+import lombok.Builder;
+
+import java.util.List;
+
+// 여러 게시글에 대한 일괄 권한 검사 결과
+@Builder
+public record PostPermissionResponse(
+        String permission,
+        List<Long> permittedIds // 요청 순서를 유지한, 권한이 있는 게시글 ID
+) {
+}
@@ -13,6 +13,7 @@ public record PostResponse(
         String content,
         List<String> tags,
         List<PostImageResponse> images, // <-- 이미지 리스트
-        LocalDateTime createdAt
+        LocalDateTime createdAt,
+        Long version // 수정 요청 시 함께 전달 (낙관적 락)
 ) {
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package codeit.sb06.imagepost.dto.response;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder
+public record UploadUrlResponse(
+        String uploadKey,   // 업로드 완료 후 등록 요청에 사용할 Key
+        String uploadUrl,   // 파일을 PUT 할 URL (S3 Presigned URL 또는 로컬 업로드 경로)
+        String method,
+        String contentType, // 업로드 시 반드시 같은 Content-Type 헤더를 사용해야 함
+        LocalDateTime expiresAt
+) {
+}
@@ -0,0 +1,36 @@
+package codeit.sb06.imagepost.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 피드 버전 카운터 (단일 행): 게시글 작성/수정/삭제 트랜잭션에서 함께 증가시켜 피드 ETag로 사용
+// 증가와 시각 기록을 DB에서 수행하므로 앱 서버 간 시계 차이와 무관하게 커밋 순서대로 단조 증가함
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "feed_version")
+public class FeedVersion {
+
+    public static final Long SINGLETON_ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private long version;
+
+    // 마지막 증가 시각 (DB 시각, Last-Modified 응답용)
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static FeedVersion initial() {
+        FeedVersion feedVersion = new FeedVersion();
+        feedVersion.id = SINGLETON_ID;
+        feedVersion.updatedAt = LocalDateTime.now();
+        return feedVersion;
+    }
+}
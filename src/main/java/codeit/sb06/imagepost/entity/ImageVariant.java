@@ -0,0 +1,18 @@
+package codeit.sb06.imagepost.entity;
+
+import lombok.Getter;
+
+// 업로드 시 함께 생성하는 축소 이미지 종류 (가로 폭 기준)
+@Getter
+public enum ImageVariant {
+    THUMBNAIL("thumb", 200),
+    MEDIUM("medium", 800);
+
+    private final String suffix;
+    private final int width;
+
+    ImageVariant(String suffix, int width) {
+        this.suffix = suffix;
+        this.width = width;
+    }
+}
@@ -1,11 +1,13 @@
 package codeit.sb06.imagepost.entity;
 
+import codeit.sb06.imagepost.security.MemberCacheEvictionListener;
 import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
 @Getter
 @NoArgsConstructor
+@EntityListeners(MemberCacheEvictionListener.class) // 비밀번호/권한 변경 시 사용자 캐시 제거
 public class Member {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -26,4 +28,13 @@ public class Member {
         this.password = password;
         this.role = role;
     }
+
+    // passwordEncoder로 인코딩된 비밀번호
+    public void changePassword(String encodedPassword) {
+        this.password = encodedPassword;
+    }
+
+    public void changeRole(Role role) {
+        this.role = role;
+    }
 }
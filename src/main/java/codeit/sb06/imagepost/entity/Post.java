@@ -5,6 +5,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -17,6 +18,9 @@ import java.util.List;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
+@Table(indexes = {
+        @Index(name = "idx_post_created_at_id", columnList = "created_at desc, id desc") // 피드 키셋 페이지네이션용
+})
 public class Post {
 
     @Id
@@ -51,6 +55,13 @@ public class Post {
     @LastModifiedDate
     private LocalDateTime updatedAt;
 
+    // 낙관적 락: 변경될 때마다 증가하며, 동시 수정 시 나중에 커밋하는 쪽이 실패함 (ETag에도 사용)
+    // (기존 데이터가 있는 테이블에 컬럼을 추가할 수 있도록 기본값 0 지정)
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @Builder
     public Post(Member author, String title, String content, List<String> tags) {
         this.author = author;
@@ -63,6 +74,14 @@ public class Post {
         this.title = title;
         this.content = content;
         this.tags = tags;
+        touch();
+    }
+
+    // 연관관계 편의 메서드 (PostImage 1개를 추가)
+    public void addImage(PostImage image) {
+        this.images.add(image);
+        image.setPost(this);
+        touch();
     }
 
     // 연관관계 편의 메서드 (PostImage 리스트를 설정)
@@ -73,5 +92,12 @@ public class Post {
             // PostImage 객체에 Post(this)를 설정
             images.forEach(image -> image.setPost(this));
         }
+        touch();
+    }
+
+    // 이미지(mappedBy 컬렉션)만 바뀌면 Post가 dirty 상태가 되지 않아 @LastModifiedDate가 갱신되지 않으므로 직접 갱신
+    // (updatedAt은 ETag/Last-Modified 계산에 사용)
+    private void touch() {
+        this.updatedAt = LocalDateTime.now();
     }
 }
\ No newline at end of file
@@ -1,8 +1,11 @@
 package codeit.sb06.imagepost.entity;
 
+import codeit.sb06.imagepost.util.StorageUrls;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.util.List;
+
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -19,6 +22,11 @@ public class PostImage {
     @Column(nullable = false)
     private String originalFileName; // 원본 파일명
 
+    // 축소 이미지 storageUrl (원본이 작거나 생성에 실패하면 null)
+    private String thumbnailUrl;
+
+    private String mediumUrl;
+
     // 연관관계 편의 메서드 (Post를 설정)
     // Post와 다대일(ManyToOne) 관계
     @Setter
@@ -27,8 +35,15 @@ public class PostImage {
     private Post post;
 
     @Builder
-    public PostImage(String storageUrl, String originalFileName) {
+    public PostImage(String storageUrl, String originalFileName, String thumbnailUrl, String mediumUrl) {
         this.storageUrl = storageUrl;
         this.originalFileName = originalFileName;
+        this.thumbnailUrl = thumbnailUrl;
+        this.mediumUrl = mediumUrl;
+    }
+
+    // 원본과 변형을 포함해 스토리지에 저장된 모든 URL (삭제 시 사용)
+    public List<String> getStorageUrls() {
+        return StorageUrls.of(storageUrl, thumbnailUrl, mediumUrl);
     }
 }
\ No newline at end of file
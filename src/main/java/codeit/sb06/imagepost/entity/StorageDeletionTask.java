@@ -0,0 +1,60 @@
+package codeit.sb06.imagepost.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+// 스토리지 파일 삭제 아웃박스: 게시글 트랜잭션과 함께 기록되고, 커밋 이후 백그라운드에서 삭제됨
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "storage_deletion_outbox",
+        indexes = @Index(name = "idx_storage_deletion_outbox_next_attempt_at", columnList = "next_attempt_at"))
+public class StorageDeletionTask {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 삭제할 파일의 storageUrl (S3 Key 또는 로컬 웹 경로)
+    @Column(nullable = false)
+    private String storageUrl;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public StorageDeletionTask(String storageUrl) {
+        this.storageUrl = storageUrl;
+        this.createdAt = LocalDateTime.now();
+        this.nextAttemptAt = this.createdAt;
+    }
+
+    // 아직 삭제할 수 없는 파일(유예 시간 중)은 시도 횟수를 늘리지 않고 다음 확인 시각만 미룸
+    public void deferUntil(LocalDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    // 삭제 실패 시 재시도 시각을 뒤로 미룸
+    public void scheduleRetry(Duration backoff, String error) {
+        this.attempts++;
+        this.nextAttemptAt = LocalDateTime.now().plus(backoff);
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+    }
+}
@@ -0,0 +1,73 @@
+package codeit.sb06.imagepost.entity;
+
+import codeit.sb06.imagepost.dto.FileMetaData;
+import codeit.sb06.imagepost.util.StorageUrls;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 스토리지에 저장된 원본 파일(변형 포함) 1개와 이를 참조하는 PostImage 개수
+// 같은 내용의 이미지는 contentHash로 찾아 재사용하고, 참조가 0이 되면 삭제 아웃박스로 넘김
+// 같은 내용이 동시에 업로드되어도 contentHash 유니크 제약으로 하나만 등록됨 (다른 요청은 등록된 파일을 사용)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "stored_blob",
+        uniqueConstraints = @UniqueConstraint(name = "uk_stored_blob_content_hash", columnNames = "content_hash"))
+public class StoredBlob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private String storageUrl;
+
+    // 원본의 SHA-256 (hex), 내용 기반 저장 이전에 등록된 파일은 null (유니크 제약은 null끼리 충돌하지 않음)
+    @Column(length = 64)
+    private String contentHash;
+
+    private String thumbnailUrl;
+
+    private String mediumUrl;
+
+    @Column(nullable = false)
+    private int refCount;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public StoredBlob(FileMetaData meta) {
+        this.storageUrl = meta.storageUrl();
+        this.contentHash = meta.contentHash();
+        this.thumbnailUrl = meta.thumbnailUrl();
+        this.mediumUrl = meta.mediumUrl();
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public void retain() {
+        this.refCount++;
+    }
+
+    // 참조 해제 후 남은 참조 수 반환
+    public int release() {
+        if (this.refCount > 0) {
+            this.refCount--;
+        }
+        return this.refCount;
+    }
+
+    // 이미 저장된 파일을 새 업로드의 결과로 재사용
+    public FileMetaData toFileMetaData(String originalFileName) {
+        return new FileMetaData(storageUrl, originalFileName, thumbnailUrl, mediumUrl, contentHash);
+    }
+
+    // 원본과 변형을 포함해 스토리지에 저장된 모든 URL (삭제 시 사용)
+    public List<String> getStorageUrls() {
+        return StorageUrls.of(storageUrl, thumbnailUrl, mediumUrl);
+    }
+}
@@ -0,0 +1,43 @@
+package codeit.sb06.imagepost.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 발급된 직접 업로드 Key와 발급받은 사용자: 게시글 등록(finalize) 시 한 번만 소비되며, 기한 내 소비되지 않으면 업로드 파일과 함께 정리됨
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "upload_ticket",
+        indexes = @Index(name = "idx_upload_ticket_expires_at", columnList = "expires_at"))
+public class UploadTicket {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 직접 업로드 Key (S3 Key 또는 로컬 웹 경로)
+    @Column(nullable = false, unique = true)
+    private String uploadKey;
+
+    // 발급받은 사용자 (다른 사용자가 등록할 수 없음)
+    @Column(nullable = false)
+    private String ownerUsername;
+
+    // 이 시각까지 등록되지 않으면 업로드 파일을 삭제
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public UploadTicket(String uploadKey, String ownerUsername, LocalDateTime expiresAt) {
+        this.uploadKey = uploadKey;
+        this.ownerUsername = ownerUsername;
+        this.expiresAt = expiresAt;
+        this.createdAt = LocalDateTime.now();
+    }
+}
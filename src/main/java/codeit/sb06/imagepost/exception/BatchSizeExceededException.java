@@ -0,0 +1,7 @@
+package codeit.sb06.imagepost.exception;
+
+public class BatchSizeExceededException extends RuntimeException {
+    public BatchSizeExceededException(String message) {
+        super(message);
+    }
+}
@@ -9,13 +9,20 @@ public enum ErrorCode {
     // Post
     POST_NOT_FOUND(HttpStatus.NOT_FOUND, "P001", "게시글을 찾을 수 없습니다."),
     INVALID_PASSWORD(HttpStatus.FORBIDDEN, "P002", "비밀번호가 일치하지 않습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "P003", "페이지 커서가 올바르지 않습니다."),
+    POST_CONFLICT(HttpStatus.CONFLICT, "P004", "게시글이 다른 요청에 의해 먼저 수정되었습니다. 다시 조회한 뒤 시도해 주세요."),
+    INVALID_PERMISSION(HttpStatus.BAD_REQUEST, "P005", "지원하지 않는 권한입니다. (UPDATE, DELETE)"),
 
     // File
     FILE_UPLOAD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "F001", "파일 업로드에 실패했습니다."),
     INVALID_FILE_COUNT(HttpStatus.BAD_REQUEST, "F002", "파일은 최대 5개까지 업로드할 수 있습니다."),
+    INVALID_FILE_SIZE(HttpStatus.BAD_REQUEST, "F003", "파일 크기가 올바르지 않습니다. (Content-Length 필수, 허용된 최대 파일 크기 이하)"),
+    UPLOAD_NOT_FOUND(HttpStatus.BAD_REQUEST, "F004", "업로드된 파일을 찾을 수 없거나 이미 등록된 파일입니다."),
+    INVALID_FILE_TYPE(HttpStatus.BAD_REQUEST, "F005", "허용되지 않는 파일 형식입니다. (image/jpeg, image/png, image/gif, image/webp)"),
 
     // Common
-    INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "C001", "입력값이 올바르지 않습니다.");
+    INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "C001", "입력값이 올바르지 않습니다."),
+    BATCH_SIZE_EXCEEDED(HttpStatus.BAD_REQUEST, "C002", "한 번에 요청할 수 있는 ID 개수를 초과했습니다. (최대 50개)");
 
 
     private final HttpStatus status;
@@ -1,11 +1,14 @@
 package codeit.sb06.imagepost.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.util.stream.Stream;
+
 @Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -26,15 +29,50 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, errorCode.getStatus());
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    protected ResponseEntity<ErrorResponse> handleInvalidCursorException(InvalidCursorException e) {
+        log.error("handleInvalidCursorException", e);
+        final ErrorCode errorCode = ErrorCode.INVALID_CURSOR;
+        final ErrorResponse response = ErrorResponse.of(errorCode);
+        return new ResponseEntity<>(response, errorCode.getStatus());
+    }
+
+    // 요청한 version이 다르거나(PostConflictException), 동시 수정으로 커밋 시점에 version이 바뀐 경우(낙관적 락 실패)
+    @ExceptionHandler({PostConflictException.class, OptimisticLockingFailureException.class})
+    protected ResponseEntity<ErrorResponse> handlePostConflictException(RuntimeException e) {
+        log.error("handlePostConflictException", e);
+        final ErrorCode errorCode = ErrorCode.POST_CONFLICT;
+        final ErrorResponse response = ErrorResponse.of(errorCode);
+        return new ResponseEntity<>(response, errorCode.getStatus());
+    }
+
+    @ExceptionHandler(InvalidPermissionException.class)
+    protected ResponseEntity<ErrorResponse> handleInvalidPermissionException(InvalidPermissionException e) {
+        log.error("handleInvalidPermissionException", e);
+        final ErrorCode errorCode = ErrorCode.INVALID_PERMISSION;
+        final ErrorResponse response = ErrorResponse.of(errorCode);
+        return new ResponseEntity<>(response, errorCode.getStatus());
+    }
+
+    @ExceptionHandler(BatchSizeExceededException.class)
+    protected ResponseEntity<ErrorResponse> handleBatchSizeExceededException(BatchSizeExceededException e) {
+        log.error("handleBatchSizeExceededException", e);
+        final ErrorCode errorCode = ErrorCode.BATCH_SIZE_EXCEEDED;
+        final ErrorResponse response = ErrorResponse.of(errorCode);
+        return new ResponseEntity<>(response, errorCode.getStatus());
+    }
+
     // FileUploadException 핸들러
     @ExceptionHandler(FileUploadException.class)
     protected ResponseEntity<ErrorResponse> handleFileUploadException(FileUploadException e) {
         log.error("handleFileUploadException", e);
 
-        // 에러 메시지를 기반으로 INVALID_FILE_COUNT 구분
-        final ErrorCode errorCode = e.getMessage().equals(ErrorCode.INVALID_FILE_COUNT.getMessage())
-                ? ErrorCode.INVALID_FILE_COUNT
-                : ErrorCode.FILE_UPLOAD_FAILED;
+        // 에러 메시지를 기반으로 INVALID_FILE_COUNT, INVALID_FILE_SIZE, UPLOAD_NOT_FOUND 구분
+        final ErrorCode errorCode = Stream.of(ErrorCode.INVALID_FILE_COUNT, ErrorCode.INVALID_FILE_SIZE, ErrorCode.UPLOAD_NOT_FOUND,
+                        ErrorCode.INVALID_FILE_TYPE)
+                .filter(code -> code.getMessage().equals(e.getMessage()))
+                .findFirst()
+                .orElse(ErrorCode.FILE_UPLOAD_FAILED);
 
         final ErrorResponse response = ErrorResponse.of(errorCode);
         return new ResponseEntity<>(response, errorCode.getStatus());
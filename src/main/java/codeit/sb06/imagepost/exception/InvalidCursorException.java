@@ -0,0 +1,7 @@
+package codeit.sb06.imagepost.exception;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
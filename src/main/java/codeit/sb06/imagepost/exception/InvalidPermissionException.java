@@ -0,0 +1,7 @@
+package codeit.sb06.imagepost.exception;
+
+public class InvalidPermissionException extends RuntimeException {
+    public InvalidPermissionException(String message) {
+        super(message);
+    }
+}
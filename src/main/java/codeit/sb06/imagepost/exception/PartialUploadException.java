@@ -0,0 +1,20 @@
+package codeit.sb06.imagepost.exception;
+
+import codeit.sb06.imagepost.dto.FileMetaData;
+
+import java.util.List;
+
+// 여러 파일 중 일부만 저장된 채 업로드가 실패한 경우 (이미 저장된 파일은 호출한 쪽에서 참조 수를 확인해 정리)
+public class PartialUploadException extends FileUploadException {
+
+    private final List<FileMetaData> storedFiles;
+
+    public PartialUploadException(String message, Throwable cause, List<FileMetaData> storedFiles) {
+        super(message, cause);
+        this.storedFiles = List.copyOf(storedFiles);
+    }
+
+    public List<FileMetaData> getStoredFiles() {
+        return storedFiles;
+    }
+}
@@ -0,0 +1,7 @@
+package codeit.sb06.imagepost.exception;
+
+public class PostConflictException extends RuntimeException {
+    public PostConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package codeit.sb06.imagepost.repository;
+
+import codeit.sb06.imagepost.entity.FeedVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface FeedVersionRepository extends JpaRepository<FeedVersion, Long> {
+
+    // 읽지 않고 DB에서 바로 증가 (행 락은 호출한 트랜잭션이 커밋될 때까지 유지되어 증가가 커밋 순서대로 반영됨)
+    @Modifying
+    @Query("update FeedVersion f set f.version = f.version + 1, f.updatedAt = local datetime where f.id = :id")
+    int increment(@Param("id") Long id);
+}
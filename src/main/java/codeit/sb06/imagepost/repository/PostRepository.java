@@ -1,7 +1,60 @@
 package codeit.sb06.imagepost.repository;
 
+import codeit.sb06.imagepost.dto.PostOwner;
+import codeit.sb06.imagepost.dto.PostVersion;
 import codeit.sb06.imagepost.entity.Post;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
-}
\ No newline at end of file
+
+    // 작성자(author)는 fetch join으로 함께 조회
+    // tags, images 컬렉션은 hibernate.default_batch_fetch_size에 의해 페이지 단위 IN 쿼리로 로딩됨
+    @EntityGraph(attributePaths = "author")
+    Optional<Post> findWithAuthorById(Long id);
+
+    // ID 목록 일괄 조회: 작성자와 이미지는 fetch join, tags는 batch fetch(IN 쿼리 1회)로 로딩
+    // (두 List 컬렉션을 동시에 fetch join 하면 MultipleBagFetchException이 발생하므로 images만 join)
+    @EntityGraph(attributePaths = {"author", "images"})
+    @Query("select distinct p from Post p where p.id in :ids")
+    List<Post> findAllWithAuthorAndImagesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 권한 검사용: 작성자 ID/username만 조회 (Post/Member 엔티티를 로딩하지 않음)
+    @Query("select new codeit.sb06.imagepost.dto.PostOwner(p.id, a.id, a.username) " +
+            "from Post p join p.author a where p.id = :id")
+    Optional<PostOwner> findOwnerById(@Param("id") Long id);
+
+    // 일괄 권한 검사용: 주어진 ID 중 해당 사용자가 작성한 게시글 ID
+    @Query("select p.id from Post p where p.id in :ids and p.author.username = :username")
+    List<Long> findIdsByAuthor(@Param("ids") Collection<Long> ids, @Param("username") String username);
+
+    @Query("select p.id from Post p where p.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // 조건부 요청용: 본문 없이 version과 수정 시각만 조회 (수정 기록이 없는 이전 데이터는 작성 시각)
+    @Query("select new codeit.sb06.imagepost.dto.PostVersion(p.version, coalesce(p.updatedAt, p.createdAt)) " +
+            "from Post p where p.id = :id")
+    Optional<PostVersion> findVersionById(@Param("id") Long id);
+
+    // 피드 첫 페이지 (idx_post_created_at_id 인덱스를 역순으로 스캔)
+    @EntityGraph(attributePaths = "author")
+    @Query("select p from Post p order by p.createdAt desc, p.id desc")
+    List<Post> findFeed(Pageable pageable);
+
+    // 커서 이후 페이지: (createdAt, id) < (커서) 조건으로 OFFSET 없이 이어서 조회
+    @EntityGraph(attributePaths = "author")
+    @Query("select p from Post p " +
+            "where p.createdAt <= :createdAt and (p.createdAt < :createdAt or p.id < :id) " +
+            "order by p.createdAt desc, p.id desc")
+    List<Post> findFeedAfter(@Param("createdAt") LocalDateTime createdAt,
+                             @Param("id") Long id,
+                             Pageable pageable);
+}
@@ -0,0 +1,17 @@
+package codeit.sb06.imagepost.repository;
+
+import codeit.sb06.imagepost.entity.StorageDeletionTask;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface StorageDeletionTaskRepository extends JpaRepository<StorageDeletionTask, Long> {
+
+    // 재시도 시각이 도래한 삭제 작업을 오래된 순서로 조회
+    @Query("select t from StorageDeletionTask t where t.nextAttemptAt <= :now order by t.id")
+    List<StorageDeletionTask> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+}
@@ -0,0 +1,33 @@
+package codeit.sb06.imagepost.repository;
+
+import codeit.sb06.imagepost.entity.StoredBlob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface StoredBlobRepository extends JpaRepository<StoredBlob, Long> {
+
+    // 같은 내용의 파일이 이미 저장되어 있는지 확인 (업로드 생략 판단, contentHash는 유니크)
+    Optional<StoredBlob> findByContentHash(String contentHash);
+
+    Optional<StoredBlob> findByStorageUrl(String storageUrl);
+
+    // 참조 수 변경/삭제 판단용 비관적 락 조회 (데드락 방지를 위해 항상 같은 순서로 잠금)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from StoredBlob b where b.storageUrl in :storageUrls order by b.storageUrl")
+    List<StoredBlob> findAllForUpdate(@Param("storageUrls") Collection<String> storageUrls);
+
+    // 참조 수 0으로 cutoff 이전에 등록되었고 삭제 작업이 기록되지 않은 파일 (정리 누락 방지)
+    @Query("select b.storageUrl from StoredBlob b where b.refCount = 0 and b.createdAt < :cutoff " +
+            "and not exists (select t.id from StorageDeletionTask t where t.storageUrl = b.storageUrl) " +
+            "order by b.id")
+    List<String> findUnreferencedBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+}
@@ -0,0 +1,27 @@
+package codeit.sb06.imagepost.repository;
+
+import codeit.sb06.imagepost.entity.UploadTicket;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface UploadTicketRepository extends JpaRepository<UploadTicket, Long> {
+
+    // 사용자가 발급받은 유효한 Key만 삭제(소비)하고 삭제된 개수 반환 (동시에 같은 Key를 소비하면 한 요청만 성공)
+    @Modifying
+    @Query("delete from UploadTicket t " +
+            "where t.uploadKey in :uploadKeys and t.ownerUsername = :ownerUsername and t.expiresAt > :now")
+    int consume(@Param("uploadKeys") Collection<String> uploadKeys,
+                @Param("ownerUsername") String ownerUsername,
+                @Param("now") LocalDateTime now);
+
+    // 기한 내 소비되지 않은 Key (idx_upload_ticket_expires_at)
+    @Query("select t from UploadTicket t where t.expiresAt <= :now order by t.expiresAt")
+    List<UploadTicket> findExpired(@Param("now") LocalDateTime now, Pageable pageable);
+}
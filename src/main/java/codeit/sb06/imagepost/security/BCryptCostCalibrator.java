@@ -0,0 +1,45 @@
+package codeit.sb06.imagepost.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.Arrays;
+
+/**
+ * 현재 호스트에서 목표 해시 시간을 넘지 않는 가장 높은 BCrypt 강도를 찾습니다.
+ * (강도가 1 오를 때마다 해시 시간은 약 2배)
+ */
+@Slf4j
+public final class BCryptCostCalibrator {
+
+    private static final int MIN_STRENGTH = 10;
+    private static final int MAX_STRENGTH = 16;
+    private static final int SAMPLES = 3;
+
+    private BCryptCostCalibrator() {
+    }
+
+    public static int calibrate(long targetMillis) {
+        int strength = MIN_STRENGTH;
+        while (strength < MAX_STRENGTH && measureMillis(strength + 1) <= targetMillis) {
+            strength++;
+        }
+        log.info("BCrypt 강도 보정: {} (목표 {}ms)", strength, targetMillis);
+        return strength;
+    }
+
+    // 워밍업 1회 후 여러 번 측정한 중앙값
+    private static long measureMillis(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        encoder.encode("calibration");
+
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode("calibration");
+            samples[i] = (System.nanoTime() - start) / 1_000_000;
+        }
+        Arrays.sort(samples);
+        return samples[SAMPLES / 2];
+    }
+}
@@ -0,0 +1,61 @@
+package codeit.sb06.imagepost.security;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 동시에 실행되는 해시 계산 수를 제한하는 PasswordEncoder
+ * 로그인이 몰려도 BCrypt가 CPU를 모두 점유하지 않도록, 제한을 넘는 요청은 잠시 대기하고 시간 내 차례가 오지 않으면 실패합니다.
+ * 실패는 AuthenticationException(PasswordHashingBusyException)이므로 폼 로그인에서는 실패 핸들러가 503으로 응답합니다.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final Semaphore permits;
+    private final Duration waitTimeout;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int maxConcurrentHashes, Duration waitTimeout) {
+        this.delegate = delegate;
+        this.permits = new Semaphore(maxConcurrentHashes, true);
+        this.waitTimeout = waitTimeout;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return bounded(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return bounded(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    // 해시 계산 없이 접두사/강도만 비교하므로 제한하지 않음
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T bounded(Supplier<T> hashing) {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException("비밀번호 검증이 중단되었습니다.", e);
+        }
+        if (!acquired) {
+            throw new PasswordHashingBusyException("로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return hashing.get();
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package codeit.sb06.imagepost.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.web.authentication.rememberme.JdbcTokenRepositoryImpl;
+import org.springframework.security.web.authentication.rememberme.PersistentRememberMeToken;
+import org.springframework.security.web.authentication.rememberme.PersistentTokenRepository;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.Date;
+
+/**
+ * Remember-Me 토큰 저장소 (JdbcTokenRepositoryImpl + 조회 캐시)
+ * - 조회: series별 토큰을 짧은 시간(cacheTtl) 동안만 캐시 (read-through, 크기 제한)
+ * - 갱신: 자동 로그인마다 토큰 값이 바뀌므로 updateToken은 즉시 DB에 반영 (DB 값보다 새로울 때만)
+ * - 정리: 만료된 토큰을 주기적으로 일괄 삭제
+ *
+ * 클러스터 제약: 캐시는 인스턴스별입니다.
+ * 다른 인스턴스가 토큰을 바꾸면 이 인스턴스의 캐시 값은 오래된 값이 되므로, 토큰이 다르면 reloadTokenForSeries로
+ * DB를 다시 읽은 뒤 판단합니다. (TokenReloadingRememberMeServices)
+ * 갱신은 응답 전에 DB에 반영되므로, 다른 인스턴스가 DB를 다시 읽으면 항상 최신 토큰을 봅니다.
+ */
+@Slf4j
+public class CachingPersistentTokenRepository implements PersistentTokenRepository {
+
+    private static final String CREATE_TABLE_SQL = "create table if not exists persistent_logins ("
+            + "username varchar(64) not null, series varchar(64) primary key, "
+            + "token varchar(64) not null, last_used timestamp not null)";
+    private static final String CREATE_INDEX_SQL =
+            "create index if not exists idx_persistent_logins_last_used on persistent_logins (last_used)";
+    // 같은 쿠키로 동시에 자동 로그인한 다른 요청(인스턴스)이 먼저 반영한 토큰을 덮어쓰지 않음
+    private static final String UPDATE_TOKEN_SQL =
+            "update persistent_logins set token = ?, last_used = ? where series = ? and last_used <= ?";
+    private static final String PURGE_SQL = "delete from persistent_logins where last_used < ?";
+    private static final long CACHE_MAX_SIZE = 100_000;
+
+    private final JdbcTokenRepositoryImpl delegate;
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration tokenValidity;
+
+    // series -> DB에 저장된 토큰
+    private final Cache<String, PersistentRememberMeToken> tokens;
+
+    public CachingPersistentTokenRepository(JdbcTokenRepositoryImpl delegate, JdbcTemplate jdbcTemplate,
+                                            Duration tokenValidity, Duration cacheTtl) {
+        this.delegate = delegate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.tokenValidity = tokenValidity;
+        this.tokens = Caffeine.newBuilder()
+                .maximumSize(CACHE_MAX_SIZE)
+                .expireAfterWrite(cacheTtl)
+                .build();
+    }
+
+    @PostConstruct
+    public void initSchema() {
+        jdbcTemplate.execute(CREATE_TABLE_SQL);
+        jdbcTemplate.execute(CREATE_INDEX_SQL);
+    }
+
+    // 새 로그인 토큰은 즉시 저장 (다른 인스턴스에서도 바로 사용할 수 있어야 함)
+    @Override
+    public void createNewToken(PersistentRememberMeToken token) {
+        delegate.createNewToken(token);
+        tokens.put(token.getSeries(), token);
+    }
+
+    /**
+     * 토큰을 즉시 DB에 반영합니다. (새 토큰은 이 응답의 쿠키로 전달되므로, 반영 전에 다른 인스턴스가 이전 값을 읽으면 탈취로 판단됨)
+     * 다른 요청이 더 나중 값을 먼저 반영했으면 예외를 던져, 상위 클래스가 이 요청의 쿠키를 갱신하지 않고 자동 로그인만 실패시키도록 합니다.
+     */
+    @Override
+    public void updateToken(String series, String tokenValue, Date lastUsed) {
+        Timestamp timestamp = new Timestamp(lastUsed.getTime());
+        int updated = jdbcTemplate.update(UPDATE_TOKEN_SQL, tokenValue, timestamp, series, timestamp);
+        if (updated == 0) {
+            tokens.invalidate(series);
+            throw new OptimisticLockingFailureException("Remember-Me 토큰이 다른 요청에 의해 먼저 갱신되었습니다: " + series);
+        }
+
+        PersistentRememberMeToken current = tokens.getIfPresent(series);
+        if (current != null) {
+            tokens.put(series, new PersistentRememberMeToken(current.getUsername(), series, tokenValue, lastUsed));
+        }
+    }
+
+    @Override
+    public PersistentRememberMeToken getTokenForSeries(String seriesId) {
+        // 없는 series(null)는 캐시하지 않음
+        return tokens.get(seriesId, delegate::getTokenForSeries);
+    }
+
+    /**
+     * 캐시를 건너뛰고 DB에서 토큰을 다시 읽습니다. (쿠키의 토큰이 캐시 값과 다를 때, 탈취로 판단하기 전에 호출)
+     */
+    public PersistentRememberMeToken reloadTokenForSeries(String seriesId) {
+        PersistentRememberMeToken stored = delegate.getTokenForSeries(seriesId);
+        if (stored == null) {
+            tokens.invalidate(seriesId);
+            return null;
+        }
+        tokens.put(seriesId, stored);
+        return stored;
+    }
+
+    // 로그아웃/토큰 탈취 감지 시 호출되므로 즉시 삭제
+    @Override
+    public void removeUserTokens(String username) {
+        tokens.asMap().values().removeIf(token -> token.getUsername().equals(username));
+        delegate.removeUserTokens(username);
+    }
+
+    /**
+     * 유효 기간이 지난 토큰을 일괄 삭제합니다.
+     */
+    @Scheduled(fixedDelayString = "${security.remember-me.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        Timestamp expiredBefore = new Timestamp(System.currentTimeMillis() - tokenValidity.toMillis());
+        int purged = jdbcTemplate.update(PURGE_SQL, expiredBefore);
+        if (purged > 0) {
+            log.info("만료된 Remember-Me 토큰 삭제: {}건", purged);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package codeit.sb06.imagepost.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.core.session.SessionInformation;
+import org.springframework.security.core.session.SessionRegistry;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 세션 저장소 기반 SessionRegistry 앞에 두는 짧은 조회 캐시
+ * ConcurrentSessionFilter가 매 요청마다 호출하는 getSessionInformation의 저장소 조회(JDBC)를 줄입니다.
+ *
+ * 캐시는 인스턴스별이므로, 다른 인스턴스의 로그인으로 만료된 세션은 최대 TTL만큼 늦게 만료로 처리됩니다.
+ * 같은 인스턴스에서 만료시킨 세션은 즉시 캐시에서 제거합니다.
+ */
+public class CachingSessionRegistry implements SessionRegistry {
+
+    private static final long MAX_SIZE = 10_000;
+
+    private final SessionRegistry delegate;
+    private final Cache<String, SessionInformation> sessions;
+
+    public CachingSessionRegistry(SessionRegistry delegate, Duration ttl, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.sessions = Caffeine.newBuilder()
+                .maximumSize(MAX_SIZE)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, sessions, "session.registry");
+    }
+
+    @Override
+    public List<Object> getAllPrincipals() {
+        return delegate.getAllPrincipals();
+    }
+
+    // 로그인 시(동시 세션 제한 검사)에만 호출되므로 캐시하지 않고, 만료 처리 시 캐시도 함께 비우도록 감쌈
+    @Override
+    public List<SessionInformation> getAllSessions(Object principal, boolean includeExpiredSessions) {
+        return delegate.getAllSessions(principal, includeExpiredSessions).stream()
+                .map(info -> (SessionInformation) new EvictingSessionInformation(info))
+                .toList();
+    }
+
+    @Override
+    public SessionInformation getSessionInformation(String sessionId) {
+        return sessions.get(sessionId, delegate::getSessionInformation);
+    }
+
+    @Override
+    public void refreshLastRequest(String sessionId) {
+        delegate.refreshLastRequest(sessionId);
+    }
+
+    @Override
+    public void registerNewSession(String sessionId, Object principal) {
+        delegate.registerNewSession(sessionId, principal);
+        sessions.invalidate(sessionId);
+    }
+
+    @Override
+    public void removeSessionInformation(String sessionId) {
+        delegate.removeSessionInformation(sessionId);
+        sessions.invalidate(sessionId);
+    }
+
+    // 만료 처리를 저장소에 반영한 뒤 이 인스턴스의 캐시에서도 제거
+    private class EvictingSessionInformation extends SessionInformation {
+
+        private final SessionInformation target;
+
+        EvictingSessionInformation(SessionInformation target) {
+            super(target.getPrincipal(), target.getSessionId(), target.getLastRequest());
+            this.target = target;
+            if (target.isExpired()) {
+                super.expireNow();
+            }
+        }
+
+        @Override
+        public void expireNow() {
+            target.expireNow();
+            super.expireNow();
+            sessions.invalidate(getSessionId());
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package codeit.sb06.imagepost.security;
+
+import org.springframework.context.ApplicationListener;
+import org.springframework.security.core.session.AbstractSessionEvent;
+import org.springframework.security.core.session.SessionDestroyedEvent;
+import org.springframework.security.core.session.SessionIdChangedEvent;
+import org.springframework.security.core.session.SessionInformation;
+import org.springframework.security.core.session.SessionRegistry;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 세션용 SessionRegistry (SessionRegistryImpl 대체)
+ * principal별 세션 ID 집합을 ConcurrentHashMap의 키 단위 원자 연산(compute)으로 관리하므로
+ * 전역 락 없이 등록/만료/조회가 모두 O(1)이며, 서로 다른 사용자의 요청끼리 경합하지 않습니다.
+ * 세션 ID 등록/제거도 해당 principal의 compute 안에서 수행해, 동시에 등록과 제거가 일어나도 집합에 고아 ID가 남지 않습니다.
+ */
+public class ConcurrentSessionRegistry implements SessionRegistry, ApplicationListener<AbstractSessionEvent> {
+
+    // sessionId -> SessionInformation
+    private final Map<String, SessionInformation> sessionIds = new ConcurrentHashMap<>();
+    // principal -> sessionId 집합 (비면 키 자체를 제거)
+    private final Map<Object, Set<String>> principals = new ConcurrentHashMap<>();
+
+    @Override
+    public List<Object> getAllPrincipals() {
+        return new ArrayList<>(principals.keySet());
+    }
+
+    @Override
+    public List<SessionInformation> getAllSessions(Object principal, boolean includeExpiredSessions) {
+        Set<String> sessionsUsedByPrincipal = principals.get(principal);
+        if (sessionsUsedByPrincipal == null) {
+            return List.of();
+        }
+
+        List<SessionInformation> list = new ArrayList<>(sessionsUsedByPrincipal.size());
+        for (String sessionId : sessionsUsedByPrincipal) {
+            SessionInformation sessionInformation = sessionIds.get(sessionId);
+            if (sessionInformation != null && (includeExpiredSessions || !sessionInformation.isExpired())) {
+                list.add(sessionInformation);
+            }
+        }
+        return list;
+    }
+
+    @Override
+    public SessionInformation getSessionInformation(String sessionId) {
+        Assert.hasText(sessionId, "SessionId required as per interface contract");
+        return sessionIds.get(sessionId);
+    }
+
+    @Override
+    public void refreshLastRequest(String sessionId) {
+        SessionInformation info = getSessionInformation(sessionId);
+        if (info != null) {
+            info.refreshLastRequest();
+        }
+    }
+
+    @Override
+    public void registerNewSession(String sessionId, Object principal) {
+        Assert.hasText(sessionId, "SessionId required as per interface contract");
+        Assert.notNull(principal, "Principal required as per interface contract");
+
+        SessionInformation info = new SessionInformation(principal, sessionId, new Date());
+        SessionInformation[] previous = new SessionInformation[1];
+        principals.compute(principal, (key, sessions) -> {
+            Set<String> result = sessions != null ? sessions : ConcurrentHashMap.newKeySet();
+            previous[0] = sessionIds.put(sessionId, info);
+            result.add(sessionId);
+            return result;
+        });
+        if (previous[0] != null && !previous[0].getPrincipal().equals(principal)) {
+            detach(previous[0].getPrincipal(), sessionId, null);
+        }
+    }
+
+    @Override
+    public void removeSessionInformation(String sessionId) {
+        Assert.hasText(sessionId, "SessionId required as per interface contract");
+
+        SessionInformation info = sessionIds.get(sessionId);
+        if (info != null) {
+            detach(info.getPrincipal(), sessionId, info);
+        }
+    }
+
+    // 세션 만료/로그아웃, 세션 고정 보호에 의한 ID 변경을 반영
+    @Override
+    public void onApplicationEvent(AbstractSessionEvent event) {
+        if (event instanceof SessionDestroyedEvent sessionDestroyedEvent) {
+            removeSessionInformation(sessionDestroyedEvent.getId());
+        } else if (event instanceof SessionIdChangedEvent sessionIdChangedEvent) {
+            String oldSessionId = sessionIdChangedEvent.getOldSessionId();
+            SessionInformation info = sessionIds.get(oldSessionId);
+            if (info != null) {
+                Object principal = info.getPrincipal();
+                removeSessionInformation(oldSessionId);
+                registerNewSession(sessionIdChangedEvent.getNewSessionId(), principal);
+            }
+        }
+    }
+
+    /**
+     * principal의 세션 집합에서 sessionId를 뺍니다. (expected가 있으면 그 정보일 때만 sessionIds에서도 제거)
+     * 그 사이 같은 principal로 다시 등록되었다면 집합에 그대로 둡니다.
+     */
+    private void detach(Object principal, String sessionId, SessionInformation expected) {
+        principals.compute(principal, (key, sessions) -> {
+            if (expected != null) {
+                sessionIds.remove(sessionId, expected);
+            }
+            SessionInformation current = sessionIds.get(sessionId);
+            if (sessions != null && (current == null || !current.getPrincipal().equals(key))) {
+                sessions.remove(sessionId);
+            }
+            return sessions == null || sessions.isEmpty() ? null : sessions;
+        });
+    }
+}
@@ -0,0 +1,176 @@
+package codeit.sb06.imagepost.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * IP별, (username, IP)별 로그인 실패 횟수 제한 (슬라이딩 윈도우)
+ * username만으로 차단하면 누구든 어느 IP에서나 실패를 반복해 다른 사용자의 계정을 잠글 수 있으므로,
+ * 계정 단위 한도는 시도한 IP와 묶어 그 IP에서의 추측만 차단합니다.
+ * 비밀번호 검증 전에 시도 1회를 실패로 미리 예약(한도 확인과 증가를 한 번의 CAS로)하고, 성공하면 되돌립니다.
+ * 따라서 동시에 몰린 요청도 한도를 넘어 해시 검증까지 가지 못합니다.
+ * 카운터는 CAS로만 갱신하므로 락이 없고, 일정 시간 시도가 없는 키는 캐시에서 제거되어 메모리 사용량이 제한됩니다.
+ */
+@Component
+public class LoginAttemptLimiter {
+
+    private static final long MAX_TRACKED_KEYS = 100_000;
+
+    private final long windowMillis;
+    private final int maxFailuresPerIp;
+    private final int maxFailuresPerUsernameAndIp;
+    private final Cache<String, SlidingWindowCounter> counters;
+
+    public LoginAttemptLimiter(
+            @Value("${security.login-throttle.window:5m}") Duration window,
+            @Value("${security.login-throttle.max-failures-per-ip:20}") int maxFailuresPerIp,
+            @Value("${security.login-throttle.max-failures-per-username-and-ip:5}") int maxFailuresPerUsernameAndIp
+    ) {
+        this.windowMillis = window.toMillis();
+        this.maxFailuresPerIp = maxFailuresPerIp;
+        this.maxFailuresPerUsernameAndIp = maxFailuresPerUsernameAndIp;
+        // 이전 윈도우까지 계산에 쓰이므로 2개 윈도우 동안 시도가 없으면 제거
+        this.counters = Caffeine.newBuilder()
+                .maximumSize(MAX_TRACKED_KEYS)
+                .expireAfterAccess(window.multipliedBy(2))
+                .build();
+    }
+
+    /**
+     * 비밀번호 검증 전에 호출: IP와 (username, IP)의 시도를 1회씩 실패로 예약합니다.
+     * 어느 한쪽이라도 최근 실패 횟수가 한도에 도달했으면 예약하지 않고 false를 반환합니다.
+     * (ip는 forward-headers 처리로 프록시 뒤의 실제 클라이언트 주소로 해석된 값)
+     */
+    public boolean tryAcquire(String ip, String username) {
+        long now = System.currentTimeMillis();
+        SlidingWindowCounter ipCounter = counter(ipKey(ip));
+        if (!ipCounter.tryIncrement(now, maxFailuresPerIp)) {
+            return false;
+        }
+        if (username != null && !counter(usernameKey(username, ip)).tryIncrement(now, maxFailuresPerUsernameAndIp)) {
+            ipCounter.decrement(now);
+            return false;
+        }
+        return true;
+    }
+
+    // 자격 증명 오류가 아닌 이유로 검증하지 못한 경우(예: 해시 계산 대기 초과) 예약한 시도를 되돌림
+    public void release(String ip, String username) {
+        long now = System.currentTimeMillis();
+        decrement(ipKey(ip), now);
+        if (username != null) {
+            decrement(usernameKey(username, ip), now);
+        }
+    }
+
+    // 로그인 성공 시 예약한 IP 시도를 되돌리고 이 IP에서의 해당 계정 실패 기록은 초기화
+    public void onSuccess(String ip, String username) {
+        decrement(ipKey(ip), System.currentTimeMillis());
+        if (username != null) {
+            counters.invalidate(usernameKey(username, ip));
+        }
+    }
+
+    // 차단이 풀릴 때까지 남은 최대 시간 (Retry-After)
+    public Duration retryAfter() {
+        return Duration.ofMillis(windowMillis);
+    }
+
+    private void decrement(String key, long now) {
+        SlidingWindowCounter counter = counters.getIfPresent(key);
+        if (counter != null) {
+            counter.decrement(now);
+        }
+    }
+
+    private SlidingWindowCounter counter(String key) {
+        return counters.get(key, k -> new SlidingWindowCounter(windowMillis));
+    }
+
+    private static String ipKey(String ip) {
+        return "ip:" + ip;
+    }
+
+    private static String usernameKey(String username, String ip) {
+        return "user:" + username.toLowerCase(Locale.ROOT) + "@" + ip;
+    }
+
+    /**
+     * 고정 윈도우 2개(현재, 직전)로 근사한 슬라이딩 윈도우 카운터
+     * 추정치 = 직전 윈도우 횟수 x (직전 윈도우가 겹치는 비율) + 현재 윈도우 횟수
+     */
+    static final class SlidingWindowCounter {
+
+        private record State(long window, int current, int previous) {
+        }
+
+        private final long windowMillis;
+        private final AtomicReference<State> state = new AtomicReference<>(new State(0, 0, 0));
+
+        SlidingWindowCounter(long windowMillis) {
+            this.windowMillis = windowMillis;
+        }
+
+        // 추정치가 limit 미만일 때만 1 증가 (확인과 증가를 한 번의 CAS로 처리하므로 동시 요청도 한도를 넘지 않음)
+        boolean tryIncrement(long now, int limit) {
+            long window = now / windowMillis;
+            while (true) {
+                State current = state.get();
+                State advanced = advance(current, window);
+                if (estimate(advanced, now) >= limit) {
+                    return false;
+                }
+                State next = new State(window, advanced.current() + 1, advanced.previous());
+                if (state.compareAndSet(current, next)) {
+                    return true;
+                }
+            }
+        }
+
+        // 예약을 되돌림 (그 사이 윈도우가 바뀌었으면 직전 윈도우에서 차감)
+        void decrement(long now) {
+            long window = now / windowMillis;
+            while (true) {
+                State current = state.get();
+                State advanced = advance(current, window);
+                State next;
+                if (advanced.current() > 0) {
+                    next = new State(window, advanced.current() - 1, advanced.previous());
+                } else if (advanced.previous() > 0) {
+                    next = new State(window, 0, advanced.previous() - 1);
+                } else {
+                    return;
+                }
+                if (state.compareAndSet(current, next)) {
+                    return;
+                }
+            }
+        }
+
+        double estimate(long now) {
+            return estimate(advance(state.get(), now / windowMillis), now);
+        }
+
+        private double estimate(State advanced, long now) {
+            double previousWeight = 1.0 - (double) (now % windowMillis) / windowMillis;
+            return advanced.previous() * previousWeight + advanced.current();
+        }
+
+        // 시간이 흘러 윈도우가 바뀌었으면 현재 -> 직전으로 이동 (2개 이상 지났으면 모두 0)
+        private static State advance(State state, long window) {
+            if (state.window() == window) {
+                return state;
+            }
+            if (state.window() == window - 1) {
+                return new State(window, 0, state.current());
+            }
+            return new State(window, 0, 0);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package codeit.sb06.imagepost.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+
+// 로그인 요청을 UsernamePasswordAuthenticationFilter(비밀번호 해시 검증) 전에 차단
+// 시도를 먼저 실패로 예약하고 통과시키므로, 동시에 몰린 요청도 한도 이상 해시 검증에 도달하지 않음 (성공 시 핸들러가 되돌림)
+@RequiredArgsConstructor
+public class LoginRateLimitFilter extends OncePerRequestFilter {
+    private final ObjectMapper mapper;
+    private final LoginAttemptLimiter limiter;
+    private final String loginProcessingUrl;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !(HttpMethod.POST.matches(request.getMethod()) && loginProcessingUrl.equals(request.getServletPath()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        // getRemoteAddr는 server.forward-headers-strategy 설정에 따라 신뢰하는 프록시 뒤의 실제 클라이언트 IP
+        if (!limiter.tryAcquire(request.getRemoteAddr(), request.getParameter("username"))) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(limiter.retryAfter().toSeconds()));
+            response.setContentType("application/json");
+            mapper.writeValue(response.getWriter(), Map.of(
+                    "code", "TOO_MANY_LOGIN_ATTEMPTS",
+                    "message", "Too many login attempts"
+            ));
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+}
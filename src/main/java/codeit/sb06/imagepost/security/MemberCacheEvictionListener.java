@@ -0,0 +1,26 @@
+package codeit.sb06.imagepost.security;
+
+import codeit.sb06.imagepost.entity.Member;
+import codeit.sb06.imagepost.util.TransactionUtils;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.stereotype.Component;
+
+// Member의 비밀번호/권한이 바뀌면 캐시된 사용자 정보를 제거
+// (커밋 전 다른 요청이 이전 값을 다시 캐시할 수 있으므로 커밋 이후에도 한 번 더 제거)
+@Component
+@RequiredArgsConstructor
+public class MemberCacheEvictionListener {
+
+    private final UserCache userCache;
+
+    @PostUpdate
+    @PostRemove
+    public void evict(Member member) {
+        String username = member.getUsername();
+        userCache.removeUserFromCache(username);
+        TransactionUtils.afterCommit(() -> userCache.removeUserFromCache(username));
+    }
+}
@@ -0,0 +1,27 @@
+package codeit.sb06.imagepost.security;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+// 인증된 사용자 정보 + Member ID (작성자 지정 등에서 username으로 Member를 다시 조회하지 않도록 함)
+@Getter
+public class MemberPrincipal extends User {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Long memberId;
+
+    public MemberPrincipal(Long memberId, String username, String password,
+                           Collection<? extends GrantedAuthority> authorities) {
+        super(username, password, authorities);
+        this.memberId = memberId;
+    }
+
+    // 인증 후 eraseCredentials()가 원본을 변경하지 않도록 캐시에는 사본을 보관/반환
+    public MemberPrincipal copy() {
+        return new MemberPrincipal(memberId, getUsername(), getPassword(), getAuthorities());
+    }
+}
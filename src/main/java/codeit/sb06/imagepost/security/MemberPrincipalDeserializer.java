@@ -0,0 +1,41 @@
+package codeit.sb06.imagepost.security;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.io.IOException;
+import java.util.Set;
+
+// 세션에 저장된 MemberPrincipal JSON 복원 (인증 후 지워진 비밀번호는 null로 복원)
+public class MemberPrincipalDeserializer extends JsonDeserializer<MemberPrincipal> {
+
+    private static final TypeReference<Set<SimpleGrantedAuthority>> AUTHORITY_SET = new TypeReference<>() {
+    };
+
+    @Override
+    public MemberPrincipal deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        ObjectMapper mapper = (ObjectMapper) parser.getCodec();
+        JsonNode node = mapper.readTree(parser);
+
+        Set<SimpleGrantedAuthority> authorities = mapper.convertValue(node.get("authorities"), AUTHORITY_SET);
+        JsonNode memberIdNode = node.get("memberId");
+        JsonNode passwordNode = node.get("password");
+        String password = passwordNode == null || passwordNode.isNull() ? null : passwordNode.asText();
+
+        MemberPrincipal principal = new MemberPrincipal(
+                memberIdNode == null || memberIdNode.isNull() ? null : memberIdNode.asLong(),
+                node.get("username").asText(),
+                password != null ? password : "",
+                authorities
+        );
+        if (password == null) {
+            principal.eraseCredentials();
+        }
+        return principal;
+    }
+}
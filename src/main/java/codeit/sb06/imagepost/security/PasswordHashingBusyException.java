@@ -0,0 +1,14 @@
+package codeit.sb06.imagepost.security;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+// 동시 해시 계산 한도로 비밀번호를 검증하지 못함 (자격 증명 오류가 아니므로 로그인 실패 횟수에 포함하지 않고 503으로 응답)
+public class PasswordHashingBusyException extends AuthenticationServiceException {
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+
+    public PasswordHashingBusyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
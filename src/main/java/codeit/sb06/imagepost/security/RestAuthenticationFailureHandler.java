@@ -4,6 +4,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.authentication.AuthenticationFailureHandler;
 
@@ -13,11 +15,28 @@ import java.util.Map;
 //ExceptionTranslationFilter이전의 Filter의 응답 처리
 @RequiredArgsConstructor
 public class RestAuthenticationFailureHandler implements AuthenticationFailureHandler {
+    private static final String BUSY_RETRY_AFTER_SECONDS = "1";
+
     private final ObjectMapper mapper;
+    private final LoginAttemptLimiter limiter;
 
     @Override
     public void onAuthenticationFailure(HttpServletRequest request, HttpServletResponse response, AuthenticationException exception)
             throws IOException {
+        // 해시 계산 대기 시간 초과: 자격 증명 오류가 아니므로 실패 횟수에 넣지 않고 잠시 후 재시도 안내
+        if (exception instanceof PasswordHashingBusyException) {
+            limiter.release(request.getRemoteAddr(), request.getParameter("username"));
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, BUSY_RETRY_AFTER_SECONDS);
+            response.setContentType("application/json");
+            mapper.writeValue(response.getWriter(), Map.of(
+                    "code", "LOGIN_BUSY",
+                    "message", exception.getMessage()
+            ));
+            return;
+        }
+
+        // 실패 횟수는 LoginRateLimitFilter가 검증 전에 이미 예약해 둠
         response.setStatus(401);
         response.setContentType("application/json");
         mapper.writeValue(response.getWriter(), Map.of("message", "Login Failed"));
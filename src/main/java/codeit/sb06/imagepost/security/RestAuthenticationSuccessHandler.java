@@ -14,10 +14,14 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class RestAuthenticationSuccessHandler implements AuthenticationSuccessHandler {
     private final ObjectMapper mapper;
+    private final LoginAttemptLimiter limiter;
 
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response, Authentication authentication)
             throws IOException {
+        // LoginRateLimitFilter가 실패로 예약한 시도를 되돌림
+        limiter.onSuccess(request.getRemoteAddr(), request.getParameter("username"));
+
         response.setStatus(200);
         response.setContentType("application/json");
         mapper.writeValue(response.getWriter(), Map.of("message", "Login successful"));
@@ -0,0 +1,36 @@
+package codeit.sb06.imagepost.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.web.authentication.rememberme.PersistentRememberMeToken;
+import org.springframework.security.web.authentication.rememberme.PersistentTokenBasedRememberMeServices;
+
+/**
+ * 캐시된 토큰이 쿠키의 토큰과 다르면 DB를 다시 읽은 뒤 판단하는 Remember-Me 서비스
+ * 다른 인스턴스가 토큰을 갱신해 이 인스턴스의 캐시만 오래된 경우, 정상 사용자를 탈취로 처리해 모든 토큰을 지우지 않도록 합니다.
+ */
+public class TokenReloadingRememberMeServices extends PersistentTokenBasedRememberMeServices {
+
+    private final CachingPersistentTokenRepository tokenRepository;
+
+    public TokenReloadingRememberMeServices(String key, UserDetailsService userDetailsService,
+                                            CachingPersistentTokenRepository tokenRepository) {
+        super(key, userDetailsService, tokenRepository);
+        this.tokenRepository = tokenRepository;
+    }
+
+    @Override
+    protected UserDetails processAutoLoginCookie(String[] cookieTokens, HttpServletRequest request,
+                                                 HttpServletResponse response) {
+        if (cookieTokens.length == 2) {
+            PersistentRememberMeToken cached = tokenRepository.getTokenForSeries(cookieTokens[0]);
+            if (cached != null && !cached.getTokenValue().equals(cookieTokens[1])) {
+                // 이후 상위 클래스의 조회는 DB에서 다시 읽은 값을 사용
+                tokenRepository.reloadTokenForSeries(cookieTokens[0]);
+            }
+        }
+        return super.processAutoLoginCookie(cookieTokens, request, response);
+    }
+}
@@ -3,7 +3,19 @@ package codeit.sb06.imagepost.security.evaluator;
 import org.springframework.security.core.Authentication;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.Set;
 
 public interface DomainPermissionEvaluator {
+
+    // hasPermission(#id, 'Post', ...)의 targetType과 매칭되는 도메인 이름
+    String getTargetType();
+
     boolean hasPermission(Authentication authentication, Serializable targetId, String permission);
+
+    /**
+     * 여러 대상에 대한 권한을 한 번에 확인합니다. (대상 개수와 무관하게 쿼리 1회)
+     * @return 권한이 있는 대상 ID
+     */
+    Set<Serializable> filterPermitted(Authentication authentication, Collection<? extends Serializable> targetIds, String permission);
 }
@@ -1,19 +1,34 @@
 package codeit.sb06.imagepost.security.evaluator;
 
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.security.access.PermissionEvaluator;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
-@Slf4j
 @Component
-@RequiredArgsConstructor
 public class GlobalPermissionEvaluator implements PermissionEvaluator {
+
+    // targetType -> 도메인별 평가기 (빈 이름이 아닌 각 평가기가 선언한 targetType 기준)
     private final Map<String, DomainPermissionEvaluator> permissionEvaluators;
+    // targetType -> 단건/일괄 검사 시간 (/actuator/metrics/security.permission.check)
+    private final Map<String, Timer> singleCheckTimers;
+    private final Map<String, Timer> bulkCheckTimers;
+
+    public GlobalPermissionEvaluator(List<DomainPermissionEvaluator> evaluators, MeterRegistry meterRegistry) {
+        this.permissionEvaluators = evaluators.stream()
+                .collect(Collectors.toUnmodifiableMap(DomainPermissionEvaluator::getTargetType, Function.identity()));
+        this.singleCheckTimers = timers(meterRegistry, "single");
+        this.bulkCheckTimers = timers(meterRegistry, "bulk");
+    }
 
     @Override
     public boolean hasPermission(Authentication authentication, Object targetDomainObject, Object permission) {
@@ -22,12 +37,40 @@ public class GlobalPermissionEvaluator implements PermissionEvaluator {
 
     @Override
     public boolean hasPermission(Authentication authentication,  Serializable targetId, String targetType, Object permission) {
-        log.info("Permission check for targetType: {}", targetType);
+        DomainPermissionEvaluator permissionEvaluator = getEvaluator(targetType);
+        return singleCheckTimers.get(targetType)
+                .record(() -> permissionEvaluator.hasPermission(authentication, targetId, (String) permission));
+    }
+
+    /**
+     * 여러 대상 중 현재 사용자가 permission 권한을 가진 대상 ID를 반환합니다.
+     * (예: 피드에 표시된 게시글 중 수정 버튼을 보여줄 게시글)
+     */
+    public Set<Serializable> filterPermitted(Authentication authentication, Collection<? extends Serializable> targetIds,
+                                             String targetType, String permission) {
+        DomainPermissionEvaluator permissionEvaluator = getEvaluator(targetType);
+        if (targetIds.isEmpty()) {
+            return Set.of();
+        }
+        return bulkCheckTimers.get(targetType)
+                .record(() -> permissionEvaluator.filterPermitted(authentication, targetIds, permission));
+    }
+
+    private DomainPermissionEvaluator getEvaluator(String targetType) {
         DomainPermissionEvaluator permissionEvaluator = permissionEvaluators.get(targetType);
 
         if (permissionEvaluator == null) {
             throw new IllegalArgumentException("Permission evaluator not found for targetType: " + targetType);
         }
-        return permissionEvaluator.hasPermission(authentication, targetId, (String) permission);
+        return permissionEvaluator;
+    }
+
+    private Map<String, Timer> timers(MeterRegistry meterRegistry, String mode) {
+        return permissionEvaluators.keySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Function.identity(), targetType -> Timer.builder("security.permission.check")
+                        .description("도메인별 권한 검사 시간")
+                        .tag("domain", targetType)
+                        .tag("mode", mode)
+                        .register(meterRegistry)));
     }
 }
@@ -0,0 +1,59 @@
+package codeit.sb06.imagepost.security.evaluator;
+
+import codeit.sb06.imagepost.dto.PostOwner;
+import codeit.sb06.imagepost.exception.PostNotFoundException;
+import codeit.sb06.imagepost.repository.PostRepository;
+import codeit.sb06.imagepost.util.TransactionUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 게시글 ID -> 소유자 캐시
+ * 게시글의 작성자는 바뀌지 않으므로 삭제 시에만 무효화하며, 크기와 보관 시간으로 메모리 사용량을 제한합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostOwnershipCache {
+
+    private static final long MAX_SIZE = 10_000;
+    private static final Duration TTL = Duration.ofMinutes(30);
+
+    private final PostRepository postRepository;
+    private final MeterRegistry meterRegistry;
+
+    private Cache<Long, PostOwner> owners;
+
+    @PostConstruct
+    public void init() {
+        owners = Caffeine.newBuilder()
+                .maximumSize(MAX_SIZE)
+                .expireAfterWrite(TTL)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, owners, "post.owner");
+    }
+
+    /**
+     * 게시글 소유자를 반환합니다. (캐시 미스 시 Projection 쿼리 1회)
+     * @throws PostNotFoundException 게시글이 없으면
+     */
+    public PostOwner get(Long postId) {
+        PostOwner owner = owners.get(postId, id -> postRepository.findOwnerById(id).orElse(null));
+        if (owner == null) {
+            throw new PostNotFoundException();
+        }
+        return owner;
+    }
+
+    // 게시글 삭제가 커밋된 뒤 캐시에서 제거 (롤백되면 그대로 유지)
+    public void evictAfterCommit(Long postId) {
+        TransactionUtils.afterCommit(() -> owners.invalidate(postId));
+    }
+}
@@ -1,7 +1,5 @@
 package codeit.sb06.imagepost.security.evaluator;
 
-import codeit.sb06.imagepost.entity.Post;
-import codeit.sb06.imagepost.exception.PostNotFoundException;
 import codeit.sb06.imagepost.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
@@ -9,26 +7,58 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
-@Component("Post")
+@Component
 @RequiredArgsConstructor
 public class PostPermissionEvaluator implements DomainPermissionEvaluator{
+    // 게시글에 대해 검사할 수 있는 권한 (둘 다 작성자 또는 관리자에게만 허용)
+    public static final Set<String> SUPPORTED_PERMISSIONS = Set.of("UPDATE", "DELETE");
+
+    private final PostOwnershipCache postOwnershipCache;
     private final PostRepository postRepository;
 
+    @Override
+    public String getTargetType() {
+        return "Post";
+    }
 
+    // Post 엔티티 대신 캐시된 소유자 정보(작성자 ID/username)만 사용
+    // (게시글 본문/이미지는 이후 서비스 메서드에서 한 번만 조회됨)
     @Override
     public boolean hasPermission(Authentication authentication, Serializable targetId, String permission) {
-        Post post = postRepository.findById((Long) targetId)
-                .orElseThrow(PostNotFoundException::new);
+        if (!SUPPORTED_PERMISSIONS.contains(permission)) {
+            return false;
+        }
+        if (isAdmin(authentication)) {
+            return true;
+        }
 
-        boolean isAdmin = authentication.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .anyMatch(role -> role.equals("ROLE_ADMIN"));
+        return postOwnershipCache.get((Long) targetId).authorUsername().equals(authentication.getName());
+    }
 
-        if (isAdmin) {
-            return true;
+    // 작성자가 현재 사용자인 게시글 ID만 한 번의 쿼리로 조회 (지원하지 않는 권한이면 아무것도 허용하지 않음)
+    @Override
+    public Set<Serializable> filterPermitted(Authentication authentication, Collection<? extends Serializable> targetIds, String permission) {
+        if (!SUPPORTED_PERMISSIONS.contains(permission)) {
+            return Set.of();
+        }
+        List<Long> postIds = targetIds.stream()
+                .map(Long.class::cast)
+                .toList();
+
+        if (isAdmin(authentication)) {
+            return new HashSet<>(postRepository.findExistingIds(postIds));
         }
+        return new HashSet<>(postRepository.findIdsByAuthor(postIds, authentication.getName()));
+    }
 
-        return post.getAuthor().getUsername().equals(authentication.getName());
+    private boolean isAdmin(Authentication authentication) {
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(role -> role.equals("ROLE_ADMIN"));
     }
 }
@@ -2,28 +2,55 @@ package codeit.sb06.imagepost.service;
 
 import codeit.sb06.imagepost.entity.Member;
 import codeit.sb06.imagepost.repository.MemberRepository;
+import codeit.sb06.imagepost.security.MemberPrincipal;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailService implements UserDetailsService {
+public class CustomUserDetailService implements UserDetailsService, UserDetailsPasswordService {
 
     private final MemberRepository memberRepository;
+    private final UserCache userCache;
 
+    // 캐시 적중 시 DB 조회 없이 반환 (로그인 성공 후 비밀번호가 지워지므로 항상 사본을 반환)
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        if (userCache.getUserFromCache(username) instanceof MemberPrincipal cached) {
+            return cached.copy();
+        }
+
         Member member = memberRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("username not found"));
 
-        return User.builder()
-                .username(member.getUsername())
-                .password(member.getPassword())
-                .roles(member.getRole().name())
-                .build();
+        MemberPrincipal principal = new MemberPrincipal(
+                member.getId(),
+                member.getUsername(),
+                member.getPassword(),
+                List.of(new SimpleGrantedAuthority("ROLE_" + member.getRole().name()))
+        );
+        userCache.putUserInCache(principal);
+        return principal.copy();
+    }
+
+    // 로그인 성공 시 저장된 해시가 현재 설정보다 약하면(접두사 없음, 낮은 강도) 새 해시로 교체
+    // (Member 변경 시 MemberCacheEvictionListener가 캐시를 제거)
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        Member member = memberRepository.findByUsername(user.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("username not found"));
+        member.changePassword(newPassword);
+
+        return new MemberPrincipal(member.getId(), member.getUsername(), newPassword, user.getAuthorities());
     }
 }
@@ -0,0 +1,51 @@
+package codeit.sb06.imagepost.service;
+
+import codeit.sb06.imagepost.entity.FeedVersion;
+import codeit.sb06.imagepost.repository.FeedVersionRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 피드 버전(ETag) 관리
+ * 게시글을 작성/수정/삭제하는 트랜잭션에서 increment를 함께 호출해, 피드 조회는 단일 행 1건만 읽고 변경 여부를 판단합니다.
+ * 게시글 쓰기는 이 행의 락을 두고 커밋까지 직렬화되지만, 쓰기 트랜잭션은 메타데이터만 다루므로 짧습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FeedVersionService {
+
+    private final FeedVersionRepository feedVersionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 카운터 행이 없으면 생성 (여러 인스턴스가 동시에 시작해도 하나만 생성됨)
+    @PostConstruct
+    public void init() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!feedVersionRepository.existsById(FeedVersion.SINGLETON_ID)) {
+                    feedVersionRepository.saveAndFlush(FeedVersion.initial());
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.debug("다른 인스턴스가 피드 버전을 먼저 생성함");
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void increment() {
+        feedVersionRepository.increment(FeedVersion.SINGLETON_ID);
+    }
+
+    @Transactional(readOnly = true)
+    public FeedVersion current() {
+        return feedVersionRepository.findById(FeedVersion.SINGLETON_ID)
+                .orElseThrow(() -> new IllegalStateException("피드 버전이 초기화되지 않았습니다."));
+    }
+}
@@ -1,21 +1,102 @@
 package codeit.sb06.imagepost.service;
 
 import codeit.sb06.imagepost.dto.FileMetaData;
+import codeit.sb06.imagepost.dto.response.UploadUrlResponse;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Set;
 
 public interface FileStorageService {
 
+    // 업로드를 허용하는 이미지 Content-Type (직접 업로드 URL 발급/등록 시 확인)
+    Set<String> ALLOWED_IMAGE_TYPES = Set.of("image/jpeg", "image/png", "image/gif", "image/webp");
+
     /**
      * 여러 개의 파일을 스토리지에 저장합니다.
+     * 파일은 내용의 해시로 Key를 정하며, 같은 내용이 이미 저장되어 있으면 업로드 없이 기존 파일을 반환합니다.
      */
     List<FileMetaData> storeFiles(List<MultipartFile> files);
 
+    /**
+     * 요청 본문 등의 스트림을 임시 파일/메모리 스풀링 없이 스토리지로 바로 저장합니다.
+     * 파일 크기와 무관하게 고정 크기의 버퍼만 사용합니다.
+     * @param contentLength 스트림에서 읽을 바이트 수 (0보다 커야 함)
+     */
+    FileMetaData storeStream(InputStream inputStream, long contentLength, String originalFileName, String contentType);
+
+    /**
+     * 클라이언트가 서버를 거치지 않고 스토리지로 직접 업로드할 수 있는 URL을 발급합니다.
+     */
+    UploadUrlResponse issueUploadUrl(String originalFileName, String contentType);
+
+    /**
+     * 직접 업로드된 파일을 확인(크기, 이미지 Content-Type)하고, 내용 기반 Key로 옮겨 축소 이미지를 생성합니다.
+     * 같은 내용이 이미 저장되어 있으면 업로드된 파일을 지우고 기존 파일을 반환합니다. (일반 업로드와 같은 중복 제거)
+     * 확인을 통과하면 직접 업로드 Key의 파일은 남지 않으며, 발급한 적 없는 형식의 Key이거나 파일이 없으면 FileUploadException을 던집니다.
+     */
+    FileMetaData finalizeUpload(String uploadKey, String originalFileName);
+
     /**
      * 스토리지에서 여러 개의 파일을 삭제합니다.
+     * @return 삭제에 실패한 storageUrl 목록 (모두 성공하면 빈 리스트)
      */
-    void deleteFiles(List<String> storageUrls);
+    List<String> deleteFiles(List<String> storageUrls);
+
+    /**
+     * 스트리밍 저장 중 서버가 종료되어 남은 임시 파일(해시 계산용) 중 cutoff 이전에 만들어진 파일을 삭제합니다.
+     * @return 삭제한 파일 개수
+     */
+    int deleteStaleTemporaryFiles(Instant cutoff);
 
     String getRetrievalUrl(String storageUrl);
+
+    /**
+     * 조회 URL의 세대 번호. 값이 바뀌면 이전에 응답한 조회 URL이 곧 만료될 수 있으므로 ETag에 포함해 HTTP 캐시를 갱신합니다.
+     * 만료되지 않는 URL(로컬 경로 등)은 항상 0입니다.
+     */
+    default long getRetrievalUrlGeneration() {
+        return 0;
+    }
+
+    // 내용 기반 Key 생성용 다이제스트 (SHA-256)
+    static MessageDigest newContentDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    static String toContentHash(MessageDigest digest) {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    // 스트림을 고정 크기 버퍼로 읽으며 해시 계산 (파일 전체를 메모리에 올리지 않음)
+    static String hashContent(InputStreamSource source) throws IOException {
+        MessageDigest digest = newContentDigest();
+        try (InputStream in = new DigestInputStream(source.getInputStream(), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return toContentHash(digest);
+    }
+
+    // 원본 파일명에서 확장자(.jpg 등) 추출 (없거나 형식이 올바르지 않으면 빈 문자열)
+    static String extractExtension(String originalFileName) {
+        if (originalFileName == null || originalFileName.lastIndexOf(".") < 0) {
+            return "";
+        }
+        String extension = originalFileName.substring(originalFileName.lastIndexOf("."));
+        // 저장 경로/Key 조작을 막기 위해 영문/숫자 확장자만 허용
+        return extension.matches("\\.[A-Za-z0-9]{1,10}") ? extension : "";
+    }
 }
\ No newline at end of file
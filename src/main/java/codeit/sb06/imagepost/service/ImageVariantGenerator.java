@@ -0,0 +1,137 @@
+package codeit.sb06.imagepost.service;
+
+import codeit.sb06.imagepost.entity.ImageVariant;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * 업로드된 이미지로부터 고정 폭의 축소 이미지(JPEG)를 생성합니다.
+ * 원본이 목표 폭보다 작거나, ImageIO가 읽을 수 없는 형식이면 해당 변형은 만들지 않습니다. (원본 URL로 대체)
+ */
+@Slf4j
+@Component
+public class ImageVariantGenerator {
+
+    public static final String VARIANT_EXTENSION = ".jpg";
+    public static final String VARIANT_CONTENT_TYPE = "image/jpeg";
+
+    /**
+     * 원본 Key(파일명)로부터 축소 이미지 Key를 만듭니다. (images/{hash}.png -> images/{hash}_png_thumbnail.jpg)
+     * 확장자까지 포함하므로, 같은 내용을 다른 확장자로 저장한 원본끼리 축소 이미지를 공유하지 않습니다.
+     */
+    public static String variantKey(String originalKey, ImageVariant variant) {
+        return originalKey.replace('.', '_') + "_" + variant.getSuffix() + VARIANT_EXTENSION;
+    }
+
+    // 디코딩 시 메모리 폭주 방지 (약 160MB ARGB)
+    private static final long MAX_SOURCE_PIXELS = 40_000_000L;
+
+    private static final int LARGEST_VARIANT_WIDTH = Arrays.stream(ImageVariant.values())
+            .mapToInt(ImageVariant::getWidth)
+            .max()
+            .orElseThrow();
+
+    private static final int SMALLEST_VARIANT_WIDTH = Arrays.stream(ImageVariant.values())
+            .mapToInt(ImageVariant::getWidth)
+            .min()
+            .orElseThrow();
+
+    /**
+     * @param source 원본 이미지를 읽을 수 있는 소스 (MultipartFile, 저장된 파일 등)
+     * @param fileName 로그용 파일명
+     */
+    public Map<ImageVariant, byte[]> generate(InputStreamSource source, String fileName) {
+        Map<ImageVariant, byte[]> variants = new EnumMap<>(ImageVariant.class);
+        try {
+            BufferedImage image = readSource(source, fileName);
+            if (image == null) {
+                return variants;
+            }
+            for (ImageVariant variant : ImageVariant.values()) {
+                if (image.getWidth() > variant.getWidth()) {
+                    variants.put(variant, encodeJpeg(resize(image, variant.getWidth())));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // 변형 생성 실패는 업로드 실패로 취급하지 않음 (원본만 저장)
+            log.warn("축소 이미지 생성 실패: {}", fileName, e);
+        }
+        return variants;
+    }
+
+    // 크기를 먼저 확인한 뒤, 필요한 해상도(가장 큰 변형의 2배)까지만 서브샘플링하여 디코딩
+    private BufferedImage readSource(InputStreamSource source, String fileName) throws IOException {
+        try (InputStream in = source.getInputStream();
+             ImageInputStream imageInput = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = imageInput != null ? ImageIO.getImageReaders(imageInput) : null;
+            if (readers == null || !readers.hasNext()) {
+                return null; // 지원하지 않는 이미지 형식
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInput, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if (width <= SMALLEST_VARIANT_WIDTH) {
+                    return null;
+                }
+                if ((long) width * height > MAX_SOURCE_PIXELS) {
+                    log.warn("이미지 해상도가 너무 커서 축소 이미지를 생성하지 않습니다: {} ({}x{})",
+                            fileName, width, height);
+                    return null;
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, width / (LARGEST_VARIANT_WIDTH * 2));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage resize(BufferedImage source, int targetWidth) {
+        int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+
+        // JPEG는 알파 채널이 없으므로 흰 배경 위에 그림
+        BufferedImage resized = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, targetWidth, targetHeight);
+            graphics.drawImage(source, 0, 0, targetWidth, targetHeight, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (!ImageIO.write(image, "jpg", out)) {
+            throw new IOException("JPEG 인코더를 찾을 수 없습니다.");
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,169 @@
+package codeit.sb06.imagepost.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로컬 업로드 파일의 열린 파일 핸들(FileChannel) 캐시
+ * 자주 조회되는 이미지를 요청마다 open/stat/close 하지 않도록 작은 개수만 열어 두고, 일정 시간 사용되지 않으면 닫습니다.
+ * 업로드 파일은 한 번 저장되면 내용이 바뀌지 않으므로(내용 해시/UUID 파일명) 크기와 수정 시각도 함께 보관합니다.
+ * 핸들은 참조 수로 관리하므로, 캐시에서 제거되어도 전송 중인 요청이 모두 close할 때까지 채널이 닫히지 않습니다.
+ */
+@Slf4j
+@Component
+@Profile(value = {"local", "build"})
+public class LocalFileHandleCache {
+
+    private static final long MAX_OPEN_FILES = 256;
+    private static final Duration IDLE_TIMEOUT = Duration.ofSeconds(30);
+
+    /**
+     * 열린 파일 (FileChannel의 위치 지정 transferTo/read는 채널 위치를 바꾸지 않으므로 여러 요청이 동시에 사용 가능)
+     * 캐시와 사용 중인 요청이 각각 참조 1개를 가지며, 마지막 참조가 close될 때 채널을 닫습니다.
+     */
+    public static final class OpenFile implements AutoCloseable {
+
+        private final Path path;
+        private final FileChannel channel;
+        private final long size;
+        private final long lastModified;
+        // 캐시가 가진 참조 1개로 시작 (0이 되면 채널이 닫힌 상태)
+        private final AtomicInteger references = new AtomicInteger(1);
+
+        private OpenFile(Path path, FileChannel channel, long size, long lastModified) {
+            this.path = path;
+            this.channel = channel;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        public Path path() {
+            return path;
+        }
+
+        public FileChannel channel() {
+            return channel;
+        }
+
+        public long size() {
+            return size;
+        }
+
+        public long lastModified() {
+            return lastModified;
+        }
+
+        // 이미 닫혔으면 false (캐시에서 제거된 직후의 핸들)
+        private boolean retain() {
+            while (true) {
+                int current = references.get();
+                if (current == 0) {
+                    return false;
+                }
+                if (references.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        // 참조 1개를 반납 (open으로 받은 핸들은 사용 후 반드시 close)
+        @Override
+        public void close() {
+            if (references.decrementAndGet() == 0) {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    log.warn("업로드 파일 핸들 닫기 실패: {}", path, e);
+                }
+            }
+        }
+    }
+
+    private final Path rootLocation;
+    private final Cache<String, OpenFile> openFiles;
+
+    public LocalFileHandleCache(@Value("${file.upload-dir}") String uploadDir, MeterRegistry meterRegistry) {
+        this.rootLocation = Paths.get(uploadDir).toAbsolutePath().normalize();
+        this.openFiles = Caffeine.newBuilder()
+                .maximumSize(MAX_OPEN_FILES)
+                .expireAfterAccess(IDLE_TIMEOUT)
+                // 교체/만료/삭제된 핸들은 캐시의 참조를 반납 (사용 중인 요청이 있으면 그 요청이 close할 때 닫힘)
+                .removalListener((String fileName, OpenFile file, RemovalCause cause) -> {
+                    if (file != null) {
+                        file.close();
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, openFiles, "upload.fileHandle");
+    }
+
+    /**
+     * 업로드 디렉토리의 파일을 엽니다. (캐시 미스 시에만 open)
+     * 반환된 핸들은 사용이 끝나면 close해야 합니다. (try-with-resources)
+     * @return 파일이 없거나 업로드 디렉토리 밖을 가리키면 빈 값
+     */
+    public Optional<OpenFile> open(String fileName) {
+        Path path = rootLocation.resolve(fileName).normalize();
+        if (!path.getParent().equals(rootLocation)) {
+            return Optional.empty();
+        }
+        while (true) {
+            OpenFile file = openFiles.get(fileName, name -> openFile(path));
+            if (file == null) {
+                return Optional.empty();
+            }
+            if (file.retain()) {
+                return Optional.of(file);
+            }
+            // 캐시에서 제거되어 닫힌 핸들을 받음: 남아 있으면 치우고 다시 열기
+            openFiles.asMap().remove(fileName, file);
+        }
+    }
+
+    // 파일 삭제 시 호출 (삭제된 파일을 열린 핸들로 계속 서빙하지 않도록)
+    public void evict(String fileName) {
+        openFiles.invalidate(fileName);
+    }
+
+    @PreDestroy
+    public void close() {
+        openFiles.invalidateAll();
+    }
+
+    private OpenFile openFile(Path path) {
+        try {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+            try {
+                return new OpenFile(path, channel, channel.size(), Files.getLastModifiedTime(path).toMillis());
+            } catch (IOException e) {
+                channel.close();
+                throw e;
+            }
+        } catch (NoSuchFileException e) {
+            return null; // 없는 파일은 캐시에 저장되지 않음
+        } catch (IOException e) {
+            log.warn("업로드 파일 열기 실패: {}", path, e);
+            return null;
+        }
+    }
+}
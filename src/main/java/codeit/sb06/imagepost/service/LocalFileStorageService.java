@@ -1,27 +1,70 @@
 package codeit.sb06.imagepost.service;
 
 import codeit.sb06.imagepost.dto.FileMetaData;
+import codeit.sb06.imagepost.dto.response.UploadUrlResponse;
+import codeit.sb06.imagepost.entity.ImageVariant;
+import codeit.sb06.imagepost.exception.ErrorCode;
 import codeit.sb06.imagepost.exception.FileUploadException;
+import codeit.sb06.imagepost.repository.StoredBlobRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @Profile(value = {"local", "build"}) // 'local', 'build'  프로필일 때만 이 빈을 등록
+@RequiredArgsConstructor
 public class LocalFileStorageService implements FileStorageService {
 
+    // 스트리밍 저장 시 transferFrom 1회당 최대 전송 크기
+    private static final long STREAM_CHUNK_SIZE = 64 * 1024;
+
+    // 직접 업로드용 파일명 접두사 (등록되면 내용 기반 파일명으로 옮겨지므로, 이 접두사의 파일은 등록 전 파일뿐)
+    private static final String DIRECT_UPLOAD_PREFIX = "direct-";
+    private static final Duration UPLOAD_URL_DURATION = Duration.ofMinutes(15);
+    // 해시 계산이 끝나기 전까지 스트림을 기록하는 임시 파일 접두사
+    private static final String TEMP_FILE_PREFIX = "tmp-";
+
+    private final ParallelFileUploader parallelFileUploader;
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final StoredBlobRepository storedBlobRepository;
+    private final LocalFileHandleCache localFileHandleCache;
+
+    // 발급된 직접 업로드 파일명 -> 발급 시 지정한 Content-Type (만료되면 자동 제거)
+    private final Cache<String, String> pendingUploads = Caffeine.newBuilder()
+            .expireAfterWrite(UPLOAD_URL_DURATION)
+            .maximumSize(10_000)
+            .build();
+
     @Value("${file.upload-dir}")
     private String uploadDir;
     private Path rootLocation;
@@ -38,48 +81,257 @@ public class LocalFileStorageService implements FileStorageService {
 
     @Override
     public List<FileMetaData> storeFiles(List<MultipartFile> files) {
-        if (files == null || files.isEmpty()) {
-            return new ArrayList<>();
+        // 파일별 저장을 병렬로 수행 (실패 시 이미 저장된 파일은 PartialUploadException으로 전달)
+        return parallelFileUploader.uploadAll(files, this::storeFile);
+    }
+
+    private FileMetaData storeFile(MultipartFile file) {
+        String originalFileName = file.getOriginalFilename();
+        String contentHash;
+        try {
+            // 스풀링된 임시 파일을 한 번 읽어 내용 해시 계산
+            contentHash = FileStorageService.hashContent(file);
+        } catch (IOException e) {
+            log.error("파일 해시 계산 실패: {}", originalFileName, e);
+            throw new FileUploadException("파일 저장에 실패했습니다: " + originalFileName, e);
         }
 
-        List<FileMetaData> storedFiles = new ArrayList<>();
-        for (MultipartFile file : files) {
-            if (file.isEmpty()) continue;
+        // 같은 내용의 파일이 이미 있으면 저장/축소 이미지 생성 모두 생략
+        Optional<FileMetaData> existing = findStored(contentHash, originalFileName);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
 
-            String originalFileName = file.getOriginalFilename();
-            String extension = originalFileName.substring(originalFileName.lastIndexOf("."));
-            String storedFileName = UUID.randomUUID() + extension;
-            Path destinationFile = this.rootLocation.resolve(Paths.get(storedFileName)).normalize().toAbsolutePath();
+        String storedFileName = contentHash + FileStorageService.extractExtension(originalFileName);
+        Path destinationFile = this.rootLocation.resolve(Paths.get(storedFileName)).normalize().toAbsolutePath();
 
-            try {
+        // transferTo가 임시 파일을 이동시키므로, 축소 이미지는 원본 저장 전에 생성
+        Map<ImageVariant, byte[]> variants = imageVariantGenerator.generate(file, originalFileName);
+
+        try {
+            // 같은 내용의 파일이 동시에 저장된 경우 다시 쓰지 않음 (Key가 내용으로 정해지므로 동일한 파일)
+            if (!Files.exists(destinationFile) || Files.size(destinationFile) != file.getSize()) {
+                // 스풀링된 임시 파일을 이동(rename)하므로 추가 복사가 없음
                 file.transferTo(destinationFile);
-                // WebConfig에서 설정한 /uploads/ 경로와 파일명을 조합
-                String storageUrl = "/uploads/" + storedFileName;
-                storedFiles.add(new FileMetaData(storageUrl, originalFileName));
-            } catch (IOException e) {
-                log.error("파일 저장 실패: {}", originalFileName, e);
-                throw new FileUploadException("파일 저장에 실패했습니다: " + originalFileName, e);
             }
+        } catch (IOException e) {
+            log.error("파일 저장 실패: {}", originalFileName, e);
+            throw new FileUploadException("파일 저장에 실패했습니다: " + originalFileName, e);
+        }
+
+        // WebConfig에서 설정한 /uploads/ 경로와 파일명을 조합
+        return new FileMetaData(
+                "/uploads/" + storedFileName,
+                originalFileName,
+                storeVariant(storedFileName, ImageVariant.THUMBNAIL, variants.get(ImageVariant.THUMBNAIL)),
+                storeVariant(storedFileName, ImageVariant.MEDIUM, variants.get(ImageVariant.MEDIUM)),
+                contentHash
+        );
+    }
+
+    @Override
+    public FileMetaData storeStream(InputStream inputStream, long contentLength, String originalFileName, String contentType) {
+        // 내용을 다 받기 전에는 해시를 알 수 없으므로 임시 파일에 기록하면서 해시 계산
+        Path tempFile = this.rootLocation.resolve(TEMP_FILE_PREFIX + UUID.randomUUID() + ".part").normalize().toAbsolutePath();
+        MessageDigest digest = FileStorageService.newContentDigest();
+        writeStream(tempFile, new DigestInputStream(inputStream, digest), contentLength, originalFileName);
+        return promote(tempFile, FileStorageService.toContentHash(digest), originalFileName);
+    }
+
+    /**
+     * 임시/직접 업로드 파일을 내용 기반 파일명으로 옮기고 축소 이미지를 생성합니다. (원래 파일은 남지 않음)
+     * 같은 내용이 이미 저장되어 있으면 옮기지 않고 기존 파일을 반환합니다.
+     */
+    private FileMetaData promote(Path sourceFile, String contentHash, String originalFileName) {
+        Optional<FileMetaData> existing = findStored(contentHash, originalFileName);
+        if (existing.isPresent()) {
+            deleteQuietly(sourceFile);
+            return existing.get();
+        }
+
+        String storedFileName = contentHash + FileStorageService.extractExtension(originalFileName);
+        Path destinationFile = this.rootLocation.resolve(Paths.get(storedFileName)).normalize().toAbsolutePath();
+        try {
+            Files.move(sourceFile, destinationFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.error("파일 저장 실패: {}", originalFileName, e);
+            deleteQuietly(sourceFile);
+            throw new FileUploadException("파일 저장에 실패했습니다: " + originalFileName, e);
+        }
+
+        // 저장된 파일을 다시 읽어 축소 이미지 생성
+        Map<ImageVariant, byte[]> variants = imageVariantGenerator.generate(new FileSystemResource(destinationFile), originalFileName);
+        return new FileMetaData(
+                "/uploads/" + storedFileName,
+                originalFileName,
+                storeVariant(storedFileName, ImageVariant.THUMBNAIL, variants.get(ImageVariant.THUMBNAIL)),
+                storeVariant(storedFileName, ImageVariant.MEDIUM, variants.get(ImageVariant.MEDIUM)),
+                contentHash
+        );
+    }
+
+    // 같은 내용으로 등록된 파일 조회
+    private Optional<FileMetaData> findStored(String contentHash, String originalFileName) {
+        return storedBlobRepository.findByContentHash(contentHash)
+                .map(blob -> blob.toFileMetaData(originalFileName));
+    }
+
+    // S3 Presigned PUT에 대응하는 로컬 업로드 URL 발급 (/api/uploads/{fileName}, 1회용)
+    @Override
+    public UploadUrlResponse issueUploadUrl(String originalFileName, String contentType) {
+        String storedFileName = DIRECT_UPLOAD_PREFIX + UUID.randomUUID() + FileStorageService.extractExtension(originalFileName);
+        LocalDateTime expiresAt = LocalDateTime.now().plus(UPLOAD_URL_DURATION);
+        pendingUploads.put(storedFileName, contentType);
+
+        return UploadUrlResponse.builder()
+                .uploadKey("/uploads/" + storedFileName)
+                .uploadUrl("/api/uploads/" + storedFileName)
+                .method("PUT")
+                .contentType(contentType)
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    /**
+     * 발급된 로컬 업로드 URL로 들어온 요청 본문을 저장합니다. (LocalUploadController에서 호출)
+     * 발급되지 않았거나 이미 사용된 파일명이면 거부하고,
+     * Presigned PUT의 서명과 마찬가지로 발급 시 지정한 Content-Type과 다른 요청도 거부합니다.
+     */
+    public void acceptDirectUpload(String storedFileName, String contentType, InputStream inputStream, long contentLength) {
+        String issuedContentType = pendingUploads.asMap().remove(storedFileName);
+        if (issuedContentType == null) {
+            throw new FileUploadException(ErrorCode.UPLOAD_NOT_FOUND.getMessage());
+        }
+        if (!issuedContentType.equals(contentType)) {
+            throw new FileUploadException(ErrorCode.INVALID_FILE_TYPE.getMessage());
+        }
+        // 업로드 중인 파일이 /uploads/로 서빙(immutable 캐시)되지 않도록 임시 파일에 기록한 뒤 이동
+        Path tempFile = this.rootLocation.resolve(TEMP_FILE_PREFIX + UUID.randomUUID() + ".part").normalize().toAbsolutePath();
+        Path destinationFile = this.rootLocation.resolve(storedFileName).normalize().toAbsolutePath();
+        writeStream(tempFile, inputStream, contentLength, storedFileName);
+        try {
+            Files.move(tempFile, destinationFile, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.error("파일 저장 실패: {}", storedFileName, e);
+            deleteQuietly(tempFile);
+            throw new FileUploadException("파일 저장에 실패했습니다: " + storedFileName, e);
+        }
+    }
+
+    // 저장이 끝나지 않은 임시 파일이나 등록 전 직접 업로드 파일 여부 (서빙 대상에서 제외)
+    public static boolean isTemporaryFile(String fileName) {
+        return fileName.startsWith(TEMP_FILE_PREFIX) || fileName.startsWith(DIRECT_UPLOAD_PREFIX);
+    }
+
+    // 업로드 시 Content-Type을 확인했으므로, 내용 해시를 계산해 내용 기반 파일명으로 옮김
+    @Override
+    public FileMetaData finalizeUpload(String uploadKey, String originalFileName) {
+        String storedFileName = uploadKey.substring(uploadKey.lastIndexOf("/") + 1);
+        if (!uploadKey.equals("/uploads/" + storedFileName) || !storedFileName.startsWith(DIRECT_UPLOAD_PREFIX)) {
+            throw new FileUploadException(ErrorCode.UPLOAD_NOT_FOUND.getMessage());
+        }
+
+        Path filePath = this.rootLocation.resolve(storedFileName).normalize().toAbsolutePath();
+        if (!Files.isRegularFile(filePath)) {
+            throw new FileUploadException(ErrorCode.UPLOAD_NOT_FOUND.getMessage());
+        }
+
+        String contentHash;
+        try {
+            contentHash = FileStorageService.hashContent(new FileSystemResource(filePath));
+        } catch (IOException e) {
+            log.error("파일 해시 계산 실패: {}", storedFileName, e);
+            throw new FileUploadException("파일 저장에 실패했습니다: " + originalFileName, e);
+        }
+        return promote(filePath, contentHash, originalFileName);
+    }
+
+    // 스트림을 파일 채널로 바로 기록 (transferFrom 내부의 고정 크기 버퍼만 사용)
+    private void writeStream(Path destinationFile, InputStream inputStream, long contentLength, String fileName) {
+        try (FileChannel target = FileChannel.open(destinationFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            ReadableByteChannel source = Channels.newChannel(inputStream);
+            long position = 0;
+            while (position < contentLength) {
+                long transferred = target.transferFrom(source, position, Math.min(STREAM_CHUNK_SIZE, contentLength - position));
+                if (transferred <= 0) {
+                    throw new IOException("요청 본문이 Content-Length보다 짧습니다.");
+                }
+                position += transferred;
+            }
+        } catch (IOException e) {
+            log.error("파일 스트리밍 저장 실패: {}", fileName, e);
+            deleteQuietly(destinationFile);
+            throw new FileUploadException("파일 저장에 실패했습니다: " + fileName, e);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", path, e);
+        }
+    }
+
+    // 축소 이미지 저장 (실패 시 원본으로 대체되도록 null 반환)
+    private String storeVariant(String storedFileName, ImageVariant variant, byte[] content) {
+        if (content == null) {
+            return null;
+        }
+
+        String variantFileName = ImageVariantGenerator.variantKey(storedFileName, variant);
+        try {
+            Files.write(this.rootLocation.resolve(variantFileName), content);
+            return "/uploads/" + variantFileName;
+        } catch (IOException e) {
+            log.warn("축소 이미지 저장 실패: {}", variantFileName, e);
+            return null;
+        }
+    }
+
+    @Override
+    public int deleteStaleTemporaryFiles(Instant cutoff) {
+        try (Stream<Path> files = Files.list(rootLocation)) {
+            List<Path> staleFiles = files
+                    .filter(path -> path.getFileName().toString().startsWith(TEMP_FILE_PREFIX))
+                    .filter(path -> isModifiedBefore(path, cutoff))
+                    .toList();
+            staleFiles.forEach(this::deleteQuietly);
+            return staleFiles.size();
+        } catch (IOException e) {
+            log.error("임시 파일 목록 조회 실패: {}", rootLocation, e);
+            return 0;
+        }
+    }
+
+    private boolean isModifiedBefore(Path path, Instant cutoff) {
+        try {
+            return Files.getLastModifiedTime(path).toInstant().isBefore(cutoff);
+        } catch (IOException e) {
+            return false; // 조회 중 이동/삭제된 파일
         }
-        return storedFiles;
     }
 
     @Override
-    public void deleteFiles(List<String> storageUrls) {
+    public List<String> deleteFiles(List<String> storageUrls) {
         if (storageUrls == null || storageUrls.isEmpty()) {
-            return;
+            return List.of();
         }
 
+        List<String> failedUrls = new ArrayList<>();
         for (String url : storageUrls) {
             try {
                 // URL(예: /uploads/uuid.jpg)에서 파일명(uuid.jpg) 추출
                 String fileName = url.substring(url.lastIndexOf("/") + 1);
                 Path filePath = this.rootLocation.resolve(fileName);
                 Files.deleteIfExists(filePath);
+                localFileHandleCache.evict(fileName);
             } catch (Exception e) {
                 log.error("로컬 파일 삭제 실패: {}", url, e);
+                failedUrls.add(url);
             }
         }
+        return failedUrls;
     }
 
     @Override
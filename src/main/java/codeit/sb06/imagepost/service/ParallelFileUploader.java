@@ -0,0 +1,102 @@
+package codeit.sb06.imagepost.service;
+
+import codeit.sb06.imagepost.dto.FileMetaData;
+import codeit.sb06.imagepost.exception.FileUploadException;
+import codeit.sb06.imagepost.exception.PartialUploadException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 한 요청의 파일들을 병렬로 업로드하는 실행기
+ * 모든 요청이 하나의 스레드 풀을 공유하므로, 스토리지로 향하는 동시 업로드 수는 전역적으로 max-concurrency를 넘지 않습니다.
+ */
+@Slf4j
+@Component
+public class ParallelFileUploader {
+
+    private final ThreadPoolExecutor executor;
+
+    public ParallelFileUploader(
+            @Value("${file.upload.max-concurrency:16}") int maxConcurrency,
+            @Value("${file.upload.queue-capacity:200}") int queueCapacity
+    ) {
+        this.executor = new ThreadPoolExecutor(
+                maxConcurrency, maxConcurrency,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("file-upload-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 파일들을 병렬로 업로드하고, 요청 순서대로 메타데이터를 반환합니다.
+     * 하나라도 실패하면 이미 저장된 파일 목록을 담은 PartialUploadException을 던집니다.
+     * (같은 내용을 동시에 업로드한 다른 요청과 파일을 공유할 수 있으므로 여기서 바로 삭제하지 않고,
+     * 호출한 쪽이 StoredBlobService.discard로 참조 수를 확인한 뒤 정리)
+     * @param uploader 파일 1개를 저장하는 함수 (스토리지 구현체별)
+     */
+    public List<FileMetaData> uploadAll(List<MultipartFile> files,
+                                        Function<MultipartFile, FileMetaData> uploader) {
+        if (files == null || files.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<MultipartFile> targets = files.stream()
+                .filter(file -> !file.isEmpty())
+                .toList();
+
+        List<CompletableFuture<FileMetaData>> futures = new ArrayList<>();
+        RuntimeException failure = null;
+        try {
+            for (MultipartFile file : targets) {
+                futures.add(CompletableFuture.supplyAsync(() -> uploader.apply(file), executor));
+            }
+        } catch (RejectedExecutionException e) {
+            log.warn("업로드 대기열이 가득 찼습니다. (queue size: {})", executor.getQueue().size());
+            failure = new FileUploadException("업로드 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", e);
+        }
+
+        // 모든 작업이 끝날 때까지 기다린 뒤 결과를 모음 (실패 시 정리 대상 누락 방지)
+        List<FileMetaData> storedFiles = new ArrayList<>();
+        for (CompletableFuture<FileMetaData> future : futures) {
+            try {
+                storedFiles.add(future.join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException cause
+                            ? cause
+                            : new FileUploadException("파일 업로드에 실패했습니다.", e.getCause());
+                }
+            }
+        }
+
+        if (failure != null) {
+            if (storedFiles.isEmpty()) {
+                throw failure;
+            }
+            throw new PartialUploadException(failure.getMessage(), failure, storedFiles);
+        }
+        return storedFiles;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
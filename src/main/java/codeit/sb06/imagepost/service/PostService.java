@@ -1,109 +1,269 @@
 package codeit.sb06.imagepost.service;
 
 import codeit.sb06.imagepost.dto.FileMetaData;
+import codeit.sb06.imagepost.dto.PostCursor;
+import codeit.sb06.imagepost.dto.PostVersion;
+import codeit.sb06.imagepost.dto.PostView;
+import codeit.sb06.imagepost.dto.ResourceVersion;
 import codeit.sb06.imagepost.dto.request.PostCreateRequest;
+import codeit.sb06.imagepost.dto.request.PostImageFinalizeRequest;
 import codeit.sb06.imagepost.dto.request.PostUpdateRequest;
+import codeit.sb06.imagepost.dto.request.UploadUrlRequest;
 import codeit.sb06.imagepost.dto.response.PostImageResponse;
+import codeit.sb06.imagepost.dto.response.PostBatchResponse;
+import codeit.sb06.imagepost.dto.response.PostPageResponse;
+import codeit.sb06.imagepost.dto.response.PostPermissionResponse;
 import codeit.sb06.imagepost.dto.response.PostResponse;
+import codeit.sb06.imagepost.dto.response.UploadUrlResponse;
+import codeit.sb06.imagepost.entity.FeedVersion;
 import codeit.sb06.imagepost.entity.Member;
 import codeit.sb06.imagepost.entity.Post;
 import codeit.sb06.imagepost.entity.PostImage;
+import codeit.sb06.imagepost.exception.BatchSizeExceededException;
 import codeit.sb06.imagepost.exception.ErrorCode;
 import codeit.sb06.imagepost.exception.FileUploadException;
 import codeit.sb06.imagepost.exception.InvalidPasswordException;
+import codeit.sb06.imagepost.exception.InvalidPermissionException;
+import codeit.sb06.imagepost.exception.PartialUploadException;
+import codeit.sb06.imagepost.exception.PostConflictException;
 import codeit.sb06.imagepost.exception.PostNotFoundException;
 import codeit.sb06.imagepost.repository.MemberRepository;
 import codeit.sb06.imagepost.repository.PostRepository;
+import codeit.sb06.imagepost.security.evaluator.GlobalPermissionEvaluator;
+import codeit.sb06.imagepost.security.evaluator.PostPermissionEvaluator;
+import codeit.sb06.imagepost.security.evaluator.PostOwnershipCache;
+import codeit.sb06.imagepost.util.SecurityUtils;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.util.Collections;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class PostService {
     private final MemberRepository memberRepository;
     private final PostRepository postRepository;
+    private final FeedVersionService feedVersionService;
     private final FileStorageService fileStorageService; // 인터페이스에 의존
+    private final TransactionTemplate transactionTemplate;
+    private final StoredBlobService storedBlobService;
+    private final UploadTicketService uploadTicketService;
+    private final PostOwnershipCache postOwnershipCache;
+    private final PostViewCache postViewCache;
+    private final GlobalPermissionEvaluator permissionEvaluator;
     private static final int MAX_IMAGE_COUNT = 5;
+    // ID 목록으로 요청하는 일괄 조회/권한 검사의 최대 개수
+    private static final int MAX_BATCH_SIZE = 50;
 
-    @Transactional
+    @Value("${post.feed.default-size:20}")
+    private int defaultFeedSize;
+
+    @Value("${post.feed.max-size:100}")
+    private int maxFeedSize;
+
+    // 스토리지 I/O 동안 DB 커넥션을 점유하지 않도록 트랜잭션 없이 시작하고,
+    // 메타데이터 저장 구간만 짧은 트랜잭션(TransactionTemplate)으로 실행
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PostResponse savePost(PostCreateRequest request, List<MultipartFile> images) {
         validateImageCount(images);
 
         String username = SecurityContextHolder.getContext().getAuthentication().getName();
-        Member author = memberRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
+        Long memberId = SecurityUtils.currentMemberId().orElse(null);
 
+        // 1. 파일 스토리지에 먼저 저장 (트랜잭션 밖, local 또는 dev 프로필 구현체가 실행됨)
+        List<FileMetaData> storedFiles = storeFiles(images);
 
-        // 1. 파일 스토리지에 저장 (local 또는 dev 프로필 구현체가 실행됨)
-        List<FileMetaData> storedFiles = fileStorageService.storeFiles(images);
+        try {
+            // 같은 내용이 동시에 등록된 경우 먼저 등록된 파일을 참조
+            List<FileMetaData> registeredFiles = storedBlobService.register(storedFiles);
 
-        // 2. Post 엔티티 생성
-        Post post = Post.builder()
-                .author(author)
-                .title(request.title())
-                .content(request.content())
-                .tags(request.tags())
-                .build();
+            // 2. 짧은 트랜잭션에서 메타데이터만 저장
+            return transactionTemplate.execute(status -> {
+                Member author = resolveAuthor(memberId, username);
 
-        // 3. PostImage 엔티티 리스트 생성
-        List<PostImage> postImages = storedFiles.stream()
-                .map(meta -> PostImage.builder()
-                        .storageUrl(meta.storageUrl())
-                        .originalFileName(meta.originalFileName())
-                        .build())
-                .collect(Collectors.toList());
+                Post post = Post.builder()
+                        .author(author)
+                        .title(request.title())
+                        .content(request.content())
+                        .tags(request.tags())
+                        .build();
 
-        // 4. Post 엔티티에 연관관계 설정
-        post.setImages(postImages);
+                // Post 엔티티에 연관관계 설정 (공유 파일의 참조 수 증가)
+                post.setImages(toPostImages(registeredFiles));
+                storedBlobService.acquire(registeredFiles);
 
-        // 5. Post 저장 (Cascade 설정으로 PostImage도 함께 DB에 저장됨)
-        Post savedPost = postRepository.save(post);
-        return convertToResponseWithRetrievalUrls(savedPost);
+                // Post 저장 (Cascade 설정으로 PostImage도 함께 DB에 저장됨)
+                Post savedPost = postRepository.save(post);
+                feedVersionService.increment();
+                // 작성자 프록시를 초기화하지 않도록 username은 인증 정보의 값을 사용
+                return convertToResponseWithRetrievalUrls(savedPost, username);
+            });
+        } catch (RuntimeException e) {
+            // 3. 보상: DB 저장에 실패하면 미리 저장한 파일을 정리
+            discardStagedFiles(storedFiles);
+            throw e;
+        }
     }
 
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @PreAuthorize("hasPermission(#id, 'Post', 'UPDATE')")
     public PostResponse updatePost(Long id, PostUpdateRequest request, List<MultipartFile> images) {
         validateImageCount(images);
 
-        Post post = findPostById(id);
+        // 1. 새 파일을 스토리지에 먼저 저장 (트랜잭션 밖)
+        List<FileMetaData> newStoredFiles = storeFiles(images);
 
-        // 1. 기존 스토리지 파일 삭제
-        List<String> oldStorageUrls = post.getImages().stream()
-                .map(PostImage::getStorageUrl)
-                .collect(Collectors.toList());
-        fileStorageService.deleteFiles(oldStorageUrls);
+        try {
+            List<FileMetaData> registeredFiles = storedBlobService.register(newStoredFiles);
 
-        // (이후 post.setImages() 호출 시 orphanRemoval=true에 의해 DB의 PostImage 레코드도 삭제됨)
+            // 2. 짧은 트랜잭션에서 게시글과 이미지 메타데이터만 교체
+            return transactionTemplate.execute(status -> {
+                Post post = findPostById(id);
+                // 조회 이후 다른 수정이 있었으면 덮어쓰지 않음 (동시 커밋은 @Version이 flush 시점에 검출)
+                verifyVersion(post, request.version());
 
-        // 2. 새 파일 스토리지에 저장
-        List<FileMetaData> newStoredFiles = fileStorageService.storeFiles(images);
+                // 기존 파일의 참조를 해제 (마지막 참조였던 파일만 아웃박스에 기록되어 커밋 이후 삭제됨)
+                storedBlobService.release(post.getImages());
+                storedBlobService.acquire(registeredFiles);
 
-        // 3. 새 PostImage 엔티티 리스트 생성
-        List<PostImage> newPostImages = newStoredFiles.stream()
-                .map(meta -> PostImage.builder()
-                        .storageUrl(meta.storageUrl())
-                        .originalFileName(meta.originalFileName())
-                        .build())
-                .collect(Collectors.toList());
+                // Post 엔티티 업데이트 (텍스트 정보)
+                post.update(request.title(), request.content(), request.tags());
+                // 새 이미지 리스트로 교체 (orphanRemoval=true에 의해 기존 PostImage 레코드는 삭제됨)
+                post.setImages(toPostImages(registeredFiles));
+
+                // 새 PostImage의 ID가 응답에 포함되도록 미리 flush
+                postRepository.flush();
+                feedVersionService.increment();
+                postViewCache.evictAfterCommit(id);
+                return convertToResponseWithRetrievalUrls(post);
+            });
+        } catch (RuntimeException e) {
+            // 3. 보상: 게시글 수정에 실패하면 새로 저장한 파일을 정리 (기존 파일은 그대로 유지)
+            discardStagedFiles(newStoredFiles);
+            throw e;
+        }
+    }
+
+    // 요청 본문으로 스트리밍된 이미지 1개를 게시글에 추가 (multipart 스풀링 없이 스토리지로 전달)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @PreAuthorize("hasPermission(#id, 'Post', 'UPDATE')")
+    public PostResponse addImage(Long id, InputStream inputStream, long contentLength,
+                                 String originalFileName, String contentType) {
+        // 1. 업로드 전에 개수 제한을 먼저 확인 (불필요한 업로드 방지)
+        transactionTemplate.executeWithoutResult(status ->
+                validateImageCount(findPostById(id).getImages().size() + 1));
+
+        // 2. 트랜잭션 밖에서 스토리지로 스트리밍
+        FileMetaData storedFile = fileStorageService.storeStream(inputStream, contentLength, originalFileName, contentType);
+
+        try {
+            FileMetaData registeredFile = storedBlobService.register(List.of(storedFile)).get(0);
+
+            // 3. 짧은 트랜잭션에서 PostImage 추가 (동시 추가를 고려해 개수 재확인)
+            return transactionTemplate.execute(status -> {
+                Post post = findPostById(id);
+                validateImageCount(post.getImages().size() + 1);
+                post.addImage(toPostImages(List.of(registeredFile)).get(0));
+                storedBlobService.acquire(List.of(registeredFile));
+
+                postRepository.flush();
+                feedVersionService.increment();
+                postViewCache.evictAfterCommit(id);
+                return convertToResponseWithRetrievalUrls(post);
+            });
+        } catch (RuntimeException e) {
+            discardStagedFiles(List.of(storedFile));
+            throw e;
+        }
+    }
 
-        // 4. Post 엔티티 업데이트 (텍스트 정보)
-        post.update(request.title(), request.content(), request.tags());
-        // 5. Post 엔티티에 새 이미지 리스트 설정 (연관관계 교체)
-        post.setImages(newPostImages);
+    // 스토리지 직접 업로드 URL 발급 (파일 바이트는 앱 서버를 거치지 않음)
+    // 발급한 Key는 요청한 사용자에게 묶어 기록하고, 그 사용자만 게시글에 등록할 수 있음
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<UploadUrlResponse> issueUploadUrls(UploadUrlRequest request) {
+        validateImageCount(request.files().size());
+        if (request.files().stream().anyMatch(file -> !FileStorageService.ALLOWED_IMAGE_TYPES.contains(file.contentType()))) {
+            throw new FileUploadException(ErrorCode.INVALID_FILE_TYPE.getMessage());
+        }
 
-        // 메서드 종료 시 @Transactional에 의해 변경 감지(Dirty Checking)되어 DB 업데이트
-        return convertToResponseWithRetrievalUrls(post);
+        List<UploadUrlResponse> responses = request.files().stream()
+                .map(file -> fileStorageService.issueUploadUrl(file.fileName(), file.contentType()))
+                .toList();
+        uploadTicketService.issue(responses.stream().map(UploadUrlResponse::uploadKey).toList(), currentUsername());
+        return responses;
+    }
+
+    // 직접 업로드가 끝난 파일을 확인하고 게시글 이미지로 등록 (앱 서버는 메타데이터만 처리)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @PreAuthorize("hasPermission(#id, 'Post', 'UPDATE')")
+    public PostResponse finalizeImages(Long id, PostImageFinalizeRequest request) {
+        List<String> uploadKeys = request.images().stream()
+                .map(PostImageFinalizeRequest.UploadedImage::uploadKey)
+                .toList();
+
+        // 1. 개수 제한을 확인하고, 요청한 사용자가 발급받은 Key의 티켓을 소비
+        // (티켓은 한 번만 소비되므로 같은 Key를 동시에 등록해도 한 요청만 통과하고, 다른 사용자의 Key는 거부됨)
+        if (uploadKeys.size() != new HashSet<>(uploadKeys).size()) {
+            throw new FileUploadException(ErrorCode.UPLOAD_NOT_FOUND.getMessage());
+        }
+        String username = currentUsername();
+        transactionTemplate.executeWithoutResult(status -> {
+            validateImageCount(findPostById(id).getImages().size() + uploadKeys.size());
+            uploadTicketService.consume(uploadKeys, username);
+        });
+
+        List<FileMetaData> uploadedFiles = new ArrayList<>();
+        try {
+            // 2. 트랜잭션 밖에서 업로드된 객체를 확인하고 내용 기반 Key로 옮김
+            // 중간에 실패하면 이미 옮긴 파일과 아직 옮기지 않은 업로드 파일 모두 아래 보상 처리에서 정리
+            for (PostImageFinalizeRequest.UploadedImage image : request.images()) {
+                uploadedFiles.add(fileStorageService.finalizeUpload(image.uploadKey(), image.originalFileName()));
+            }
+
+            List<FileMetaData> registeredFiles = storedBlobService.register(uploadedFiles);
+
+            // 3. 짧은 트랜잭션에서 PostImage 추가 (동시 추가를 고려해 개수 재확인)
+            return transactionTemplate.execute(status -> {
+                Post post = findPostById(id);
+                validateImageCount(post.getImages().size() + registeredFiles.size());
+                toPostImages(registeredFiles).forEach(post::addImage);
+                storedBlobService.acquire(registeredFiles);
+
+                postRepository.flush();
+                feedVersionService.increment();
+                postViewCache.evictAfterCommit(id);
+                return convertToResponseWithRetrievalUrls(post);
+            });
+        } catch (RuntimeException e) {
+            discardStagedFiles(uploadedFiles);
+            discardDirectUploads(uploadKeys.subList(uploadedFiles.size(), uploadKeys.size()));
+            throw e;
+        }
     }
 
     @Transactional
@@ -111,64 +271,275 @@ public class PostService {
     public void deletePost(Long id) {
         Post post = findPostById(id);
 
-        // 1. 스토리지의 실제 파일 먼저 삭제
-        List<String> storageUrls = post.getImages().stream()
-                .map(PostImage::getStorageUrl)
-                .collect(Collectors.toList());
-        fileStorageService.deleteFiles(storageUrls);
+        // 1. 파일 참조를 해제 (마지막 참조였던 파일만 아웃박스에 기록되어 커밋 이후 백그라운드에서 일괄 삭제)
+        storedBlobService.release(post.getImages());
 
         // 2. Post 엔티티 삭제
         // (CascadeType.ALL + orphanRemoval=true로 연관된 PostImage 레코드도 DB에서 함께 삭제)
         postRepository.delete(post);
+        // 피드 버전에 삭제를 반영 (같은 트랜잭션)
+        feedVersionService.increment();
+
+        // 3. 커밋 이후 권한 검사용 소유자 캐시와 상세 조회 캐시에서 제거
+        postOwnershipCache.evictAfterCommit(id);
+        postViewCache.evictAfterCommit(id);
     }
 
+    // 캐시 적중 시 DB 커넥션 없이 응답하도록 트랜잭션 없이 시작하고, 캐시 미스일 때만 짧은 트랜잭션으로 조회
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PostResponse getPostById(Long id) {
-        Post post = findPostById(id);
-        return convertToResponseWithRetrievalUrls(post);
+        PostView view = postViewCache.get(id, postId -> transactionTemplate.execute(status -> {
+            Post post = findPostById(postId);
+            return PostView.from(post, post.getAuthor().getUsername());
+        }));
+        return toResponseWithRetrievalUrls(view);
     }
 
-    public List<PostResponse> findAllPosts() {
-        return postRepository.findAll().stream()
-                .map(this::convertToResponseWithRetrievalUrls)
-                .collect(Collectors.toList());
+    // 조건부 요청(ETag/Last-Modified) 확인용 게시글 버전 (본문을 조회하기 전에 304 여부 판단)
+    // 최근에 DB와 비교한 캐시 항목이 있으면 DB 없이 그 버전을 사용하고(이 인스턴스의 수정은 커밋 후 바로 제거됨),
+    // 없거나 비교한 지 오래되었으면 DB에서 version과 수정 시각만 조회해 다른 인스턴스의 수정으로 달라진 캐시를 제거
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResourceVersion getPostVersion(Long id) {
+        PostView cached = postViewCache.getIfFresh(id);
+        if (cached != null) {
+            return toResourceVersion("post-" + id + "-v" + cached.version(), cached.lastModifiedAt());
+        }
+
+        PostVersion version = postRepository.findVersionById(id)
+                .orElseThrow(() -> new PostNotFoundException("게시글을 찾을 수 없습니다. ID: " + id));
+        postViewCache.evictIfStale(id, version.version());
+        return toResourceVersion("post-" + id + "-v" + version.version(), version.lastModified());
+    }
+
+    // 피드 버전 (게시글 작성/수정/삭제 트랜잭션에서 증가하는 DB 카운터, 커서/페이지 크기는 요청 URL로 구분됨)
+    // 단일 행 1건만 조회하므로 게시글 수와 무관하게 일정한 비용이며, 앱 서버 시계와 무관함
+    public ResourceVersion getFeedVersion() {
+        FeedVersion feedVersion = feedVersionService.current();
+        return toResourceVersion("feed-" + feedVersion.getVersion(), feedVersion.getUpdatedAt());
+    }
+
+    // 여러 게시글을 한 번에 조회 (요청 순서 유지, 없는 ID는 missingIds로 반환)
+    public PostBatchResponse findPostsByIds(List<Long> ids) {
+        List<Long> postIds = distinctIds(ids);
+        if (postIds.isEmpty()) {
+            return PostBatchResponse.builder()
+                    .posts(List.of())
+                    .missingIds(List.of())
+                    .build();
+        }
+
+        Map<Long, Post> postsById = postRepository.findAllWithAuthorAndImagesByIdIn(postIds).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+
+        return PostBatchResponse.builder()
+                .posts(postIds.stream()
+                        .filter(postsById::containsKey)
+                        .map(postId -> convertToResponseWithRetrievalUrls(postsById.get(postId)))
+                        .toList())
+                .missingIds(postIds.stream()
+                        .filter(postId -> !postsById.containsKey(postId))
+                        .toList())
+                .build();
+    }
+
+    public PostPageResponse findFeed(String cursor, Integer size) {
+        int pageSize = resolveFeedSize(size);
+        // 다음 페이지 존재 여부 확인을 위해 1건을 더 조회 (COUNT 쿼리 없이 판단)
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<Post> posts = (cursor == null || cursor.isBlank())
+                ? postRepository.findFeed(limit)
+                : findFeedAfter(PostCursor.decode(cursor), limit);
+
+        boolean hasNext = posts.size() > pageSize;
+        List<Post> page = hasNext ? posts.subList(0, pageSize) : posts;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Post last = page.get(page.size() - 1);
+            nextCursor = new PostCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return PostPageResponse.builder()
+                .posts(page.stream()
+                        .map(this::convertToResponseWithRetrievalUrls)
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    // 여러 게시글 중 현재 사용자가 permission 권한을 가진 게시글 ID (예: 피드의 수정/삭제 버튼 표시)
+    public PostPermissionResponse findPermittedPostIds(List<Long> ids, String permission) {
+        if (!PostPermissionEvaluator.SUPPORTED_PERMISSIONS.contains(permission)) {
+            throw new InvalidPermissionException(ErrorCode.INVALID_PERMISSION.getMessage());
+        }
+        List<Long> postIds = distinctIds(ids);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        Set<Serializable> permitted = permissionEvaluator.filterPermitted(authentication, postIds, "Post", permission);
+        return PostPermissionResponse.builder()
+                .permission(permission)
+                .permittedIds(postIds.stream()
+                        .filter(permitted::contains)
+                        .toList())
+                .build();
+    }
+
+    private List<Post> findFeedAfter(PostCursor cursor, Pageable limit) {
+        return postRepository.findFeedAfter(cursor.createdAt(), cursor.id(), limit);
+    }
+
+    // 조회 URL 세대를 포함해, 만료 예정인 Presigned URL이 담긴 응답이 304로 재사용되지 않도록 함
+    private ResourceVersion toResourceVersion(String eTag, LocalDateTime lastModified) {
+        return new ResourceVersion(eTag + "-" + fileStorageService.getRetrievalUrlGeneration(), toEpochMillis(lastModified));
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+    }
+
+    // 클라이언트가 조회한 version과 현재 version이 다르면 충돌 (version을 보내지 않으면 검사하지 않음)
+    private void verifyVersion(Post post, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(post.getVersion())) {
+            throw new PostConflictException(ErrorCode.POST_CONFLICT.getMessage());
+        }
+    }
+
+    // 중복 제거 (요청 순서 유지) 및 최대 개수 검증
+    private List<Long> distinctIds(List<Long> ids) {
+        List<Long> distinct = ids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (distinct.size() > MAX_BATCH_SIZE) {
+            throw new BatchSizeExceededException(ErrorCode.BATCH_SIZE_EXCEEDED.getMessage());
+        }
+        return distinct;
+    }
+
+    // 요청 페이지 크기 보정 (미지정 시 기본값, 최대값 초과 시 최대값)
+    private int resolveFeedSize(Integer size) {
+        if (size == null || size <= 0) {
+            return defaultFeedSize;
+        }
+        return Math.min(size, maxFeedSize);
+    }
+
+    // 작성자 지정: principal에 Member ID가 있으면 SELECT 없이 프록시(getReferenceById)로 연결
+    // (ID가 없는 이전 세션은 username으로 조회)
+    private Member resolveAuthor(Long memberId, String username) {
+        if (memberId != null) {
+            return memberRepository.getReferenceById(memberId);
+        }
+        return memberRepository.findByUsername(username)
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
     }
 
     private Post findPostById(Long id) {
-        return postRepository.findById(id)
+        return postRepository.findWithAuthorById(id)
                 .orElseThrow(() -> new PostNotFoundException("게시글을 찾을 수 없습니다. ID: " + id));
     }
 
+    private List<PostImage> toPostImages(List<FileMetaData> storedFiles) {
+        return storedFiles.stream()
+                .map(meta -> PostImage.builder()
+                        .storageUrl(meta.storageUrl())
+                        .originalFileName(meta.originalFileName())
+                        .thumbnailUrl(meta.thumbnailUrl())
+                        .mediumUrl(meta.mediumUrl())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    // 일부 파일만 저장된 채 실패하면 저장된 파일을 참조 수 확인 후 정리하도록 넘김
+    private List<FileMetaData> storeFiles(List<MultipartFile> images) {
+        try {
+            return fileStorageService.storeFiles(images);
+        } catch (PartialUploadException e) {
+            discardStagedFiles(e.getStoredFiles());
+            throw e;
+        }
+    }
+
+    // 트랜잭션에 반영되지 못한 스테이징 파일 정리
+    // (같은 내용의 파일을 다른 게시글이 공유할 수 있으므로 즉시 삭제하지 않고, 아웃박스가 참조 수를 확인한 뒤 삭제)
+    private void discardStagedFiles(List<FileMetaData> storedFiles) {
+        try {
+            storedBlobService.discard(storedFiles);
+        } catch (RuntimeException e) {
+            log.error("스테이징 파일 삭제 작업 기록 실패: {}", storedFiles, e);
+        }
+    }
+
+    // 티켓을 소비했지만 내용 기반 Key로 옮기지 못한 직접 업로드 파일 정리 (티켓 정리 작업이 더 이상 찾지 못하므로)
+    private void discardDirectUploads(List<String> uploadKeys) {
+        if (uploadKeys.isEmpty()) {
+            return;
+        }
+        try {
+            uploadTicketService.discard(uploadKeys);
+        } catch (RuntimeException e) {
+            log.error("직접 업로드 파일 삭제 작업 기록 실패: {}", uploadKeys, e);
+        }
+    }
+
+    private String currentUsername() {
+        return SecurityContextHolder.getContext().getAuthentication().getName();
+    }
+
     // 이미지 개수 검증
     private void validateImageCount(List<MultipartFile> images) {
-        if (images != null && images.size() > MAX_IMAGE_COUNT) {
+        if (images != null) {
+            validateImageCount(images.size());
+        }
+    }
+
+    private void validateImageCount(int imageCount) {
+        if (imageCount > MAX_IMAGE_COUNT) {
             // ErrorCode에 정의된 메시지 사용
             throw new FileUploadException(ErrorCode.INVALID_FILE_COUNT.getMessage());
         }
     }
 
     private PostResponse convertToResponseWithRetrievalUrls(Post post) {
-        List<PostImageResponse> imageResponses;
+        return convertToResponseWithRetrievalUrls(post, post.getAuthor().getUsername());
+    }
 
-        if (post.getImages() != null) {
-            imageResponses = post.getImages().stream()
-                    .map(image -> PostImageResponse.builder()
-                            .id(image.getId())
-                            // (★핵심) fileStorageService를 통해 S3 Key를 Presigned URL로 변환
-                            .imageUrl(fileStorageService.getRetrievalUrl(image.getStorageUrl()))
-                            .build())
-                    .collect(Collectors.toList());
-        } else {
-            imageResponses = Collections.emptyList();
-        }
+    private PostResponse convertToResponseWithRetrievalUrls(Post post, String authorUsername) {
+        // 트랜잭션 안에서 호출 (지연 로딩 컬렉션을 응답에 그대로 노출하지 않음)
+        return toResponseWithRetrievalUrls(PostView.from(post, authorUsername));
+    }
 
+    // 스토리지 Key를 조회 URL로 변환해 응답 생성 (캐시된 PostView도 응답마다 변환하므로 만료된 URL이 남지 않음)
+    private PostResponse toResponseWithRetrievalUrls(PostView view) {
         return PostResponse.builder()
-                .id(post.getId())
-                .author(post.getAuthor().getUsername())
-                .title(post.getTitle())
-                .content(post.getContent())
-                .tags(post.getTags())
-                .images(imageResponses) // Presigned URL이 포함된 리스트
-                .createdAt(post.getCreatedAt())
+                .id(view.id())
+                .author(view.author())
+                .title(view.title())
+                .content(view.content())
+                .tags(view.tags())
+                .images(view.images().stream()
+                        .map(this::convertToImageResponseWithRetrievalUrls)
+                        .collect(Collectors.toList())) // Presigned URL이 포함된 리스트
+                .createdAt(view.createdAt())
+                .version(view.version())
+                .build();
+    }
+
+    private PostImageResponse convertToImageResponseWithRetrievalUrls(PostView.Image image) {
+        // (★핵심) fileStorageService를 통해 S3 Key를 Presigned URL로 변환
+        String imageUrl = fileStorageService.getRetrievalUrl(image.storageUrl());
+        return PostImageResponse.builder()
+                .id(image.id())
+                .imageUrl(imageUrl)
+                // 축소 이미지가 없으면(기존 이미지, 작은 원본 등) 원본 URL로 대체
+                .thumbnailUrl(image.thumbnailUrl() != null
+                        ? fileStorageService.getRetrievalUrl(image.thumbnailUrl())
+                        : imageUrl)
+                .mediumUrl(image.mediumUrl() != null
+                        ? fileStorageService.getRetrievalUrl(image.mediumUrl())
+                        : imageUrl)
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,127 @@
+package codeit.sb06.imagepost.service;
+
+import codeit.sb06.imagepost.dto.PostView;
+import codeit.sb06.imagepost.util.TransactionUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 게시글 ID -> 상세 조회 결과(PostView) 캐시 (Read-through)
+ * 조회가 대부분인 인기 게시글의 DB 조회를 줄이며, 예상 메모리 크기(weight)로 전체 용량을 제한합니다.
+ * 수정/삭제/이미지 추가는 커밋 이후 무효화합니다.
+ *
+ * 무효화는 이 인스턴스의 캐시에만 적용됩니다. 다른 인스턴스에서 수정된 게시글을 반영하기 위해, 항목마다 마지막으로
+ * DB의 version과 비교한 시각을 기록하고 revalidate-after가 지난 항목만 PostService.getPostVersion이 다시 비교합니다.
+ * 따라서 게시글당 DB 조회는 인스턴스별로 revalidate-after마다 최대 1회이며, 다른 인스턴스의 수정은 그만큼 늦게 보일 수 있습니다.
+ */
+@Component
+public class PostViewCache {
+
+    private final Cache<Long, Entry> views;
+    private final boolean singleFlight;
+    private final long revalidateAfterNanos;
+    // 무효화 횟수 (single-flight가 꺼져 있을 때, 조회 도중 무효화된 결과를 저장하지 않도록 비교)
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public PostViewCache(
+            MeterRegistry meterRegistry,
+            @Value("${post.view-cache.max-size:64MB}") DataSize maxSize,
+            @Value("${post.view-cache.ttl:10m}") Duration ttl,
+            @Value("${post.view-cache.single-flight:true}") boolean singleFlight,
+            @Value("${post.view-cache.revalidate-after:5s}") Duration revalidateAfter
+    ) {
+        this.singleFlight = singleFlight;
+        this.revalidateAfterNanos = revalidateAfter.toNanos();
+        this.views = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((Long id, Entry entry) -> entry.view().estimateSize())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, views, "post.view");
+    }
+
+    /**
+     * 캐시된 조회 결과를 반환하고, 없으면 loader로 조회해 저장합니다.
+     * single-flight가 켜져 있으면 같은 게시글의 동시 캐시 미스는 loader를 한 번만 실행하고 나머지는 결과를 기다립니다.
+     * 꺼져 있으면 각자 loader를 실행하며, 조회 도중 무효화가 있었으면 이전 값일 수 있으므로 반환만 하고 저장하지 않습니다.
+     * (loader의 예외는 그대로 전달되며 캐시에 저장되지 않음)
+     */
+    public PostView get(Long postId, Function<Long, PostView> loader) {
+        if (singleFlight) {
+            return views.get(postId, id -> new Entry(loader.apply(id))).view();
+        }
+        Entry cached = views.getIfPresent(postId);
+        if (cached != null) {
+            return cached.view();
+        }
+        long invalidationsBefore = invalidations.get();
+        Entry loaded = new Entry(loader.apply(postId));
+        // 무효화는 횟수 증가 후 제거하므로, 같은 키의 compute 안에서 횟수가 그대로면 이후 무효화가 이 값도 제거함
+        views.asMap().compute(postId, (id, current) ->
+                current == null && invalidations.get() == invalidationsBefore ? loaded : current);
+        return loaded.view();
+    }
+
+    // 최근 revalidate-after 안에 DB와 비교한(또는 DB에서 읽은) 경우에만 반환 (조건부 요청의 버전 확인용, DB를 조회하지 않음)
+    public PostView getIfFresh(Long postId) {
+        Entry cached = views.getIfPresent(postId);
+        return cached != null && System.nanoTime() - cached.validatedAt() < revalidateAfterNanos ? cached.view() : null;
+    }
+
+    // DB의 version과 비교해 같으면 비교 시각을 갱신하고, 다르면 제거 (다른 인스턴스에서 수정된 게시글)
+    public void evictIfStale(Long postId, Long currentVersion) {
+        Entry cached = views.getIfPresent(postId);
+        if (cached == null) {
+            return;
+        }
+        if (Objects.equals(cached.view().version(), currentVersion)) {
+            cached.markValidated();
+        } else {
+            views.asMap().remove(postId, cached);
+        }
+    }
+
+    // 게시글 변경이 커밋된 뒤 캐시에서 제거 (롤백되면 그대로 유지)
+    // 진행 중인 single-flight 로딩이 있으면 로딩이 끝난 뒤 제거되므로 이전 값이 남지 않음
+    public void evictAfterCommit(Long postId) {
+        TransactionUtils.afterCommit(() -> {
+            invalidations.incrementAndGet();
+            views.invalidate(postId);
+        });
+    }
+
+    // 조회 결과와 마지막으로 DB의 version과 일치함을 확인한 시각 (System.nanoTime)
+    private static final class Entry {
+
+        private final PostView view;
+        private volatile long validatedAt;
+
+        Entry(PostView view) {
+            this.view = view;
+            this.validatedAt = System.nanoTime();
+        }
+
+        PostView view() {
+            return view;
+        }
+
+        long validatedAt() {
+            return validatedAt;
+        }
+
+        void markValidated() {
+            validatedAt = System.nanoTime();
+        }
+    }
+}
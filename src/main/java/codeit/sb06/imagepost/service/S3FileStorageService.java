@@ -1,25 +1,64 @@
 package codeit.sb06.imagepost.service;
 
 import codeit.sb06.imagepost.dto.FileMetaData;
+import codeit.sb06.imagepost.dto.response.UploadUrlResponse;
+import codeit.sb06.imagepost.entity.ImageVariant;
+import codeit.sb06.imagepost.exception.ErrorCode;
 import codeit.sb06.imagepost.exception.FileUploadException;
+import codeit.sb06.imagepost.repository.StoredBlobRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 @Slf4j
@@ -28,76 +67,388 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class S3FileStorageService implements FileStorageService {
 
+    // Presigned URL 서명 유효 시간
+    private static final Duration SIGNATURE_DURATION = Duration.ofMinutes(15);
+    // 캐시 보관 시간: 서명 만료보다 충분히 앞서(5분 여유) 새 URL로 교체되도록 설정
+    private static final Duration PRESIGNED_URL_CACHE_TTL = Duration.ofMinutes(10);
+    private static final long PRESIGNED_URL_CACHE_MAX_SIZE = 10_000;
+    // 이 크기를 넘는 파일은 멀티파트 업로드 (파트 크기는 S3 최소값인 5MB)
+    private static final long MULTIPART_THRESHOLD = 8L * 1024 * 1024;
+    private static final int MULTIPART_PART_SIZE = 5 * 1024 * 1024;
+    // S3 DeleteObjects API가 허용하는 최대 Key 개수
+    private static final int MAX_DELETE_BATCH_SIZE = 1000;
+    // 내용 기반 Key 접두사 (images/{sha256}.jpg) 및 해시 계산 중 사용하는 임시 Key 접두사
+    private static final String CONTENT_KEY_PREFIX = "images/";
+    private static final String TEMP_KEY_PREFIX = "images/tmp/";
+    // 직접 업로드용 Key 접두사 (등록되면 내용 기반 Key로 옮겨지므로, 이 아래에는 등록 전 객체만 남음)
+    private static final String DIRECT_UPLOAD_PREFIX = "images/direct/";
+
     // AWS SDK v2 (io.awspring.cloud)
     private final S3Client s3Client;
     private final S3Presigner s3Presigner;
+    private final MeterRegistry meterRegistry;
+    private final ParallelFileUploader parallelFileUploader;
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final StoredBlobRepository storedBlobRepository;
+
+    // S3 Key -> Presigned GET URL 캐시 (동일 Key에 대해 같은 URL을 재사용하여 브라우저/CDN 캐시 적중률 향상)
+    private Cache<String, String> presignedUrlCache;
 
     // application-dev.yml에서 주입
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
+    // 직접 업로드에도 multipart 업로드와 동일한 파일 크기 제한 적용
+    @Value("${spring.servlet.multipart.max-file-size}")
+    private DataSize maxFileSize;
+
+    @PostConstruct
+    public void init() {
+        presignedUrlCache = Caffeine.newBuilder()
+                .maximumSize(PRESIGNED_URL_CACHE_MAX_SIZE)
+                .expireAfterWrite(PRESIGNED_URL_CACHE_TTL)
+                .recordStats()
+                .build();
+        // cache.gets(result=hit/miss), cache.evictions 등의 지표를 /actuator/metrics로 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, presignedUrlCache, "s3.presignedUrl");
+    }
+
     @Override
     public List<FileMetaData> storeFiles(List<MultipartFile> files) {
-        if (files == null || files.isEmpty()) {
-            return new ArrayList<>();
+        // 파일별 PUT을 병렬로 수행 (실패 시 이미 업로드된 객체는 PartialUploadException으로 전달)
+        return parallelFileUploader.uploadAll(files, this::storeFile);
+    }
+
+    private FileMetaData storeFile(MultipartFile file) {
+        String originalFileName = file.getOriginalFilename();
+        String contentHash;
+        try {
+            // 스풀링된 multipart 파일을 한 번 읽어 내용 해시 계산 (S3 요청 없음)
+            contentHash = FileStorageService.hashContent(file);
+        } catch (IOException e) {
+            log.error("파일 해시 계산 실패: {}", originalFileName, e);
+            throw new FileUploadException("S3 파일 업로드에 실패했습니다: " + originalFileName, e);
         }
 
-        List<FileMetaData> storedFiles = new ArrayList<>();
-        for (MultipartFile file : files) {
-            if (file.isEmpty()) continue;
+        // 같은 내용의 파일이 이미 있으면 업로드/축소 이미지 생성 모두 생략
+        Optional<FileMetaData> existing = findStored(contentHash, originalFileName);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
 
-            String originalFileName = file.getOriginalFilename();
-            String extension = originalFileName.substring(originalFileName.lastIndexOf("."));
-            String s3Key = "images/" + UUID.randomUUID() + extension; // S3 Key (경로)
+        String s3Key = CONTENT_KEY_PREFIX + contentHash + FileStorageService.extractExtension(originalFileName); // S3 Key (경로)
 
-            try {
-                PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                        .bucket(bucket)
-                        .key(s3Key)
-                        .contentType(file.getContentType())
-                        .build();
+        try (InputStream inputStream = file.getInputStream()) {
+            upload(s3Key, inputStream, file.getSize(), file.getContentType());
+        } catch (IOException e) {
+            log.error("S3 파일 업로드 실패: {}", originalFileName, e);
+            throw new FileUploadException("S3 파일 업로드에 실패했습니다: " + originalFileName, e);
+        }
+
+        // 스풀링된 multipart 파일을 다시 읽어 축소 이미지 생성
+        return withVariants(s3Key, originalFileName, contentHash, imageVariantGenerator.generate(file, originalFileName));
+    }
+
+    @Override
+    public FileMetaData storeStream(InputStream inputStream, long contentLength, String originalFileName, String contentType) {
+        // 내용을 다 받기 전에는 해시를 알 수 없으므로 임시 Key로 업로드하면서 해시 계산
+        String tempKey = TEMP_KEY_PREFIX + UUID.randomUUID();
+        MessageDigest digest = FileStorageService.newContentDigest();
+
+        try {
+            upload(tempKey, new DigestInputStream(inputStream, digest), contentLength, contentType);
+        } catch (IOException e) {
+            log.error("S3 파일 스트리밍 업로드 실패: {}", originalFileName, e);
+            throw new FileUploadException("S3 파일 업로드에 실패했습니다: " + originalFileName, e);
+        }
+        return promote(tempKey, FileStorageService.toContentHash(digest), originalFileName);
+    }
+
+    /**
+     * 임시/직접 업로드 Key의 객체를 내용 기반 Key로 옮기고 축소 이미지를 생성합니다. (원래 Key의 객체는 항상 삭제)
+     * 같은 내용이 이미 저장되어 있으면 복사 없이 기존 파일을 반환합니다.
+     */
+    private FileMetaData promote(String sourceKey, String contentHash, String originalFileName) {
+        Optional<FileMetaData> existing = findStored(contentHash, originalFileName);
+        if (existing.isPresent()) {
+            deleteFiles(List.of(sourceKey));
+            return existing.get();
+        }
 
-                RequestBody requestBody = RequestBody.fromInputStream(file.getInputStream(), file.getSize());
-                s3Client.putObject(putObjectRequest, requestBody);
+        String s3Key = CONTENT_KEY_PREFIX + contentHash + FileStorageService.extractExtension(originalFileName);
+        try {
+            // 서버 측 복사로 내용 기반 Key로 옮김 (파일 바이트가 앱 서버를 다시 거치지 않음)
+            s3Client.copyObject(CopyObjectRequest.builder()
+                    .sourceBucket(bucket)
+                    .sourceKey(sourceKey)
+                    .destinationBucket(bucket)
+                    .destinationKey(s3Key)
+                    .build());
+        } catch (Exception e) {
+            log.error("S3 객체 복사 실패: {} -> {}", sourceKey, s3Key, e);
+            throw new FileUploadException("S3 파일 업로드에 실패했습니다: " + originalFileName, e);
+        } finally {
+            deleteFiles(List.of(sourceKey));
+        }
+
+        // 원래 스트림은 이미 소비되었으므로, 옮긴 객체를 다시 읽어 축소 이미지 생성
+        InputStreamSource uploaded = () -> s3Client.getObject(GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(s3Key)
+                .build());
+        return withVariants(s3Key, originalFileName, contentHash, imageVariantGenerator.generate(uploaded, originalFileName));
+    }
+
+    // 같은 내용으로 등록된 파일 조회
+    private Optional<FileMetaData> findStored(String contentHash, String originalFileName) {
+        return storedBlobRepository.findByContentHash(contentHash)
+                .map(blob -> blob.toFileMetaData(originalFileName));
+    }
+
+    // 큰 파일은 멀티파트 업로드로 고정 크기 버퍼만 사용, 작은 파일은 단일 PUT으로 스트리밍
+    private void upload(String s3Key, InputStream inputStream, long contentLength, String contentType) throws IOException {
+        if (contentLength > MULTIPART_THRESHOLD) {
+            uploadMultipart(s3Key, inputStream, contentType);
+            return;
+        }
+
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(s3Key)
+                .contentType(contentType)
+                .build();
+        s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(inputStream, contentLength));
+    }
 
-                storedFiles.add(new FileMetaData(s3Key, originalFileName));
+    private void uploadMultipart(String s3Key, InputStream inputStream, String contentType) throws IOException {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(s3Key)
+                .contentType(contentType)
+                .build()).uploadId();
 
-            } catch (IOException e) {
-                log.error("S3 파일 업로드 실패: {}", originalFileName, e);
-                throw new FileUploadException("S3 파일 업로드에 실패했습니다: " + originalFileName, e);
+        // 업로드 1건당 파트 크기(5MB)만큼의 버퍼 하나를 재사용
+        byte[] buffer = new byte[MULTIPART_PART_SIZE];
+        List<CompletedPart> completedParts = new ArrayList<>();
+        try {
+            int partNumber = 1;
+            int read;
+            while ((read = inputStream.readNBytes(buffer, 0, buffer.length)) > 0) {
+                int length = read;
+                UploadPartResponse response = s3Client.uploadPart(UploadPartRequest.builder()
+                                .bucket(bucket)
+                                .key(s3Key)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .contentLength((long) length)
+                                .build(),
+                        // 재시도 시에도 같은 버퍼 구간을 다시 읽도록 ContentStreamProvider 사용 (복사 없음)
+                        RequestBody.fromContentProvider(() -> new ByteArrayInputStream(buffer, 0, length), length, contentType));
+                completedParts.add(CompletedPart.builder()
+                        .partNumber(partNumber)
+                        .eTag(response.eTag())
+                        .build());
+                partNumber++;
             }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(s3Key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                    .build());
+        } catch (IOException | RuntimeException e) {
+            abortMultipartUpload(s3Key, uploadId);
+            throw e;
+        }
+    }
+
+    private void abortMultipartUpload(String s3Key, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(s3Key)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (Exception e) {
+            log.error("S3 멀티파트 업로드 중단 실패: {} (uploadId: {})", s3Key, uploadId, e);
         }
-        return storedFiles;
     }
 
+    private FileMetaData withVariants(String s3Key, String originalFileName, String contentHash,
+                                      Map<ImageVariant, byte[]> variants) {
+        return new FileMetaData(
+                s3Key,
+                originalFileName,
+                storeVariant(s3Key, ImageVariant.THUMBNAIL, variants.get(ImageVariant.THUMBNAIL)),
+                storeVariant(s3Key, ImageVariant.MEDIUM, variants.get(ImageVariant.MEDIUM)),
+                contentHash
+        );
+    }
+
+    // 축소 이미지 업로드 (실패 시 원본으로 대체되도록 null 반환)
+    private String storeVariant(String s3Key, ImageVariant variant, byte[] content) {
+        if (content == null) {
+            return null;
+        }
+
+        String variantKey = ImageVariantGenerator.variantKey(s3Key, variant);
+        try {
+            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(variantKey)
+                    .contentType(ImageVariantGenerator.VARIANT_CONTENT_TYPE)
+                    .build();
+            s3Client.putObject(putObjectRequest, RequestBody.fromBytes(content));
+            return variantKey;
+        } catch (Exception e) {
+            log.warn("S3 축소 이미지 업로드 실패: {}", variantKey, e);
+            return null;
+        }
+    }
+
+    // 클라이언트가 S3로 바로 PUT 할 수 있는 Presigned URL 발급 (파일 바이트는 서버를 거치지 않음)
     @Override
-    public void deleteFiles(List<String> storageKeys) { // (★수정) URL이 아닌 S3 Key 리스트를 받음
+    public UploadUrlResponse issueUploadUrl(String originalFileName, String contentType) {
+        String s3Key = DIRECT_UPLOAD_PREFIX + UUID.randomUUID() + FileStorageService.extractExtension(originalFileName);
+
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(s3Key)
+                .contentType(contentType) // 서명에 포함되므로 업로드 시 같은 Content-Type을 사용해야 함
+                .build();
+
+        PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
+                .signatureDuration(SIGNATURE_DURATION)
+                .putObjectRequest(putObjectRequest)
+                .build();
+
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(presignRequest);
+        return UploadUrlResponse.builder()
+                .uploadKey(s3Key)
+                .uploadUrl(presigned.url().toString())
+                .method("PUT")
+                .contentType(contentType)
+                .expiresAt(LocalDateTime.ofInstant(presigned.expiration(), ZoneId.systemDefault()))
+                .build();
+    }
+
+    // HEAD 요청으로 객체 존재 여부와 크기/Content-Type을 확인한 뒤, 내용 해시를 계산해 내용 기반 Key로 옮김
+    @Override
+    public FileMetaData finalizeUpload(String uploadKey, String originalFileName) {
+        if (!uploadKey.startsWith(DIRECT_UPLOAD_PREFIX) || uploadKey.contains("..")) {
+            throw new FileUploadException(ErrorCode.UPLOAD_NOT_FOUND.getMessage());
+        }
+
+        HeadObjectResponse head;
+        try {
+            head = s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(uploadKey)
+                    .build());
+        } catch (NoSuchKeyException e) {
+            throw new FileUploadException(ErrorCode.UPLOAD_NOT_FOUND.getMessage());
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                throw new FileUploadException(ErrorCode.UPLOAD_NOT_FOUND.getMessage());
+            }
+            log.error("S3 업로드 확인 실패: {}", uploadKey, e);
+            throw new FileUploadException("S3 업로드 확인에 실패했습니다: " + originalFileName, e);
+        }
+
+        // Presigned PUT은 크기를 제한할 수 없으므로 등록 시점에 검사하고, 초과한 객체는 삭제
+        if (head.contentLength() == null || head.contentLength() > maxFileSize.toBytes()) {
+            deleteFiles(List.of(uploadKey));
+            throw new FileUploadException(ErrorCode.INVALID_FILE_SIZE.getMessage());
+        }
+        // 서명에 포함된 Content-Type은 발급 시 확인했지만, 실제 저장된 값으로 다시 확인
+        if (!FileStorageService.ALLOWED_IMAGE_TYPES.contains(head.contentType())) {
+            deleteFiles(List.of(uploadKey));
+            throw new FileUploadException(ErrorCode.INVALID_FILE_TYPE.getMessage());
+        }
+
+        // 업로드된 객체를 한 번 읽어 내용 해시 계산 (일반 업로드와 같은 중복 제거와 축소 이미지 생성을 위해)
+        String contentHash;
+        try {
+            contentHash = FileStorageService.hashContent(() -> s3Client.getObject(GetObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(uploadKey)
+                    .build()));
+        } catch (IOException | RuntimeException e) {
+            log.error("S3 업로드 파일 해시 계산 실패: {}", uploadKey, e);
+            throw new FileUploadException("S3 업로드 확인에 실패했습니다: " + originalFileName, e);
+        }
+        return promote(uploadKey, contentHash, originalFileName);
+    }
+
+    // 임시 Key 접두사 아래만 조회하므로, 목록은 처리 중이거나 비정상 종료로 남은 객체뿐
+    @Override
+    public int deleteStaleTemporaryFiles(Instant cutoff) {
+        List<String> staleKeys = s3Client.listObjectsV2Paginator(ListObjectsV2Request.builder()
+                        .bucket(bucket)
+                        .prefix(TEMP_KEY_PREFIX)
+                        .build())
+                .contents().stream()
+                .filter(object -> object.lastModified().isBefore(cutoff))
+                .map(S3Object::key)
+                .toList();
+        return staleKeys.size() - deleteFiles(staleKeys).size();
+    }
+
+    @Override
+    public List<String> deleteFiles(List<String> storageKeys) { // (★수정) URL이 아닌 S3 Key 리스트를 받음
         if (storageKeys == null || storageKeys.isEmpty()) {
-            return;
+            return List.of();
         }
 
-        for (String key : storageKeys) { // (★수정) 변수명 변경 (url -> key)
+        // DeleteObjects 1회 호출로 최대 1000개의 Key를 삭제
+        List<String> failedKeys = new ArrayList<>();
+        for (int from = 0; from < storageKeys.size(); from += MAX_DELETE_BATCH_SIZE) {
+            List<String> chunk = storageKeys.subList(from, Math.min(from + MAX_DELETE_BATCH_SIZE, storageKeys.size()));
             try {
-                // (★수정) URL 파싱 로직 제거, key를 직접 사용
-                DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
+                DeleteObjectsRequest deleteObjectsRequest = DeleteObjectsRequest.builder()
                         .bucket(bucket)
-                        .key(key)
+                        .delete(Delete.builder()
+                                .objects(chunk.stream()
+                                        .map(key -> ObjectIdentifier.builder().key(key).build())
+                                        .toList())
+                                .quiet(true) // 실패한 Key만 응답에 포함
+                                .build())
                         .build();
 
-                s3Client.deleteObject(deleteObjectRequest);
-
+                DeleteObjectsResponse response = s3Client.deleteObjects(deleteObjectsRequest);
+                response.errors().forEach(error -> {
+                    log.error("S3 파일 삭제 실패: {} ({})", error.key(), error.message());
+                    failedKeys.add(error.key());
+                });
             } catch (Exception e) {
-                log.error("S3 파일 삭제 실패: {}", key, e);
+                log.error("S3 파일 일괄 삭제 실패: {}건", chunk.size(), e);
+                failedKeys.addAll(chunk);
             }
         }
+        presignedUrlCache.invalidateAll(storageKeys);
+        return failedKeys;
     }
 
-    // S3 Key를 기반으로 Presigned GET URL을 생성하는 메서드
+    // S3 Key를 기반으로 Presigned GET URL을 반환하는 메서드 (캐시 미스 시에만 새로 서명)
+    @Override
     public String getRetrievalUrl(String s3Key) {
         if (s3Key == null || s3Key.isEmpty()) {
             return null; // 또는 기본 이미지 URL
         }
 
+        // 서명 실패 시 null이 반환되며, null은 캐시에 저장되지 않음
+        return presignedUrlCache.get(s3Key, this::presignGetUrl);
+    }
+
+    // 세대 길이를 (서명 유효 시간 - 캐시 보관 시간)으로 두면, 같은 세대의 응답에 담긴 URL은 세대가 끝날 때까지 유효함
+    // (304로 재사용되는 응답 본문이 만료된 URL을 담고 있지 않도록 보장)
+    @Override
+    public long getRetrievalUrlGeneration() {
+        return System.currentTimeMillis() / SIGNATURE_DURATION.minus(PRESIGNED_URL_CACHE_TTL).toMillis();
+    }
+
+    private String presignGetUrl(String s3Key) {
         try {
             GetObjectRequest getObjectRequest = GetObjectRequest.builder()
                     .bucket(bucket)
@@ -106,7 +457,7 @@ public class S3FileStorageService implements FileStorageService {
 
             // 15분 동안 유효한 임시 URL 생성
             GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
-                    .signatureDuration(Duration.ofMinutes(15))
+                    .signatureDuration(SIGNATURE_DURATION)
                     .getObjectRequest(getObjectRequest)
                     .build();
 
@@ -0,0 +1,203 @@
+package codeit.sb06.imagepost.service;
+
+import codeit.sb06.imagepost.entity.StorageDeletionTask;
+import codeit.sb06.imagepost.entity.StoredBlob;
+import codeit.sb06.imagepost.repository.StorageDeletionTaskRepository;
+import codeit.sb06.imagepost.repository.StoredBlobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 스토리지 파일 삭제를 위한 트랜잭셔널 아웃박스
+ * 게시글 수정/삭제 트랜잭션 안에서 삭제 대상만 기록하고, 커밋된 작업을 백그라운드에서 일괄 삭제합니다.
+ * (롤백되면 삭제 작업도 함께 사라지므로 게시글이 없는 이미지를 가리키는 일이 없음)
+ * 여러 게시글이 공유하는 파일(StoredBlob)은 삭제 직전에 참조 수를 다시 확인합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StorageDeletionOutbox {
+
+    // S3 DeleteObjects 1회 호출의 최대 Key 개수와 동일
+    private static final int BATCH_SIZE = 1000;
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(10);
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+    private final StorageDeletionTaskRepository taskRepository;
+    private final StoredBlobRepository storedBlobRepository;
+    private final FileStorageService fileStorageService;
+    private final TransactionTemplate transactionTemplate;
+
+    // 등록 직후의 참조 수 0 파일을 삭제하지 않는 시간 (업로드 완료부터 게시글에 참조되기까지의 시간보다 충분히 길게)
+    @Value("${storage.blob.deletion-grace:10m}")
+    private Duration deletionGrace;
+
+    /**
+     * 삭제 대상을 현재 트랜잭션에 함께 기록합니다.
+     */
+    @Transactional
+    public void enqueue(List<String> storageUrls) {
+        if (storageUrls == null || storageUrls.isEmpty()) {
+            return;
+        }
+        taskRepository.saveAll(storageUrls.stream()
+                .map(StorageDeletionTask::new)
+                .toList());
+    }
+
+    /**
+     * 재시도 시각이 도래한 삭제 작업을 배치 단위로 처리합니다.
+     * 스토리지 호출은 트랜잭션 밖에서 수행하고, 결과 반영만 짧은 트랜잭션으로 처리합니다.
+     * (여러 인스턴스가 같은 작업을 동시에 처리해도 삭제는 멱등이므로 안전)
+     */
+    @Scheduled(fixedDelayString = "${storage.deletion.poll-interval-ms:5000}")
+    public void drain() {
+        List<StorageDeletionTask> tasks;
+        do {
+            tasks = taskRepository.findDue(LocalDateTime.now(), PageRequest.of(0, BATCH_SIZE));
+            if (tasks.isEmpty()) {
+                return;
+            }
+            process(tasks);
+        } while (tasks.size() == BATCH_SIZE);
+    }
+
+    private void process(List<StorageDeletionTask> tasks) {
+        // 참조 관리 대상 파일을 먼저 처리하고, 나머지(참조 관리 이전 파일, 등록되지 못한 업로드)는 바로 삭제
+        Set<Long> handledIds = transactionTemplate.execute(status -> processBlobTasks(tasks));
+        List<StorageDeletionTask> plainTasks = tasks.stream()
+                .filter(task -> !handledIds.contains(task.getId()))
+                .toList();
+        if (!plainTasks.isEmpty()) {
+            processPlainTasks(plainTasks);
+        }
+    }
+
+    /**
+     * 공유 파일(StoredBlob)의 삭제 작업을 처리합니다.
+     * 락을 잡은 상태에서 참조 수를 다시 확인하므로, 그 사이 같은 내용이 다시 업로드되어 참조된 파일은 지우지 않습니다.
+     * 등록된 지 유예 시간이 지나지 않은 파일은 같은 내용을 막 저장한(아직 등록/참조 전인) 다른 요청이 있을 수 있어 나중에 다시 확인합니다.
+     * 재사용 판단과 삭제가 엇갈리지 않도록 이 경우에만 락을 유지한 채 스토리지를 호출합니다.
+     * @return 처리한(완료 또는 재시도 예약) 작업 ID
+     */
+    private Set<Long> processBlobTasks(List<StorageDeletionTask> tasks) {
+        Map<String, StoredBlob> blobs = storedBlobRepository.findAllForUpdate(tasks.stream()
+                        .map(StorageDeletionTask::getStorageUrl)
+                        .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(StoredBlob::getStorageUrl, Function.identity()));
+        if (blobs.isEmpty()) {
+            return Set.of();
+        }
+
+        // 참조가 남아 있는 파일의 작업은 삭제 없이 완료 처리
+        LocalDateTime graceCutoff = LocalDateTime.now().minus(deletionGrace);
+        List<StoredBlob> unreferenced = blobs.values().stream()
+                .filter(blob -> blob.getRefCount() == 0 && blob.getCreatedAt().isBefore(graceCutoff))
+                .toList();
+        Map<String, StoredBlob> inGrace = blobs.values().stream()
+                .filter(blob -> blob.getRefCount() == 0 && !blob.getCreatedAt().isBefore(graceCutoff))
+                .collect(Collectors.toMap(StoredBlob::getStorageUrl, Function.identity()));
+
+        Set<String> failedUrls = new HashSet<>();
+        if (!unreferenced.isEmpty()) {
+            try {
+                failedUrls.addAll(fileStorageService.deleteFiles(unreferenced.stream()
+                        .flatMap(blob -> blob.getStorageUrls().stream())
+                        .toList()));
+            } catch (Exception e) {
+                log.error("공유 파일 일괄 삭제 실패 ({}건)", unreferenced.size(), e);
+                unreferenced.forEach(blob -> failedUrls.addAll(blob.getStorageUrls()));
+            }
+        }
+
+        List<StoredBlob> deletedBlobs = unreferenced.stream()
+                .filter(blob -> blob.getStorageUrls().stream().noneMatch(failedUrls::contains))
+                .toList();
+        storedBlobRepository.deleteAllInBatch(deletedBlobs);
+        Set<String> retryUrls = unreferenced.stream()
+                .filter(blob -> !deletedBlobs.contains(blob))
+                .map(StoredBlob::getStorageUrl)
+                .collect(Collectors.toSet());
+
+        List<StorageDeletionTask> blobTasks = tasks.stream()
+                .filter(task -> blobs.containsKey(task.getStorageUrl()))
+                .toList();
+        taskRepository.deleteAllByIdInBatch(blobTasks.stream()
+                .filter(task -> !retryUrls.contains(task.getStorageUrl()) && !inGrace.containsKey(task.getStorageUrl()))
+                .map(StorageDeletionTask::getId)
+                .toList());
+        List<StorageDeletionTask> retryTasks = blobTasks.stream()
+                .filter(task -> retryUrls.contains(task.getStorageUrl()))
+                .toList();
+        retryTasks.forEach(task -> task.scheduleRetry(backoff(task.getAttempts()), "스토리지 삭제 실패"));
+        taskRepository.saveAll(retryTasks);
+
+        // 유예 시간이 끝나는 시각에 다시 확인
+        List<StorageDeletionTask> deferredTasks = blobTasks.stream()
+                .filter(task -> inGrace.containsKey(task.getStorageUrl()))
+                .toList();
+        deferredTasks.forEach(task -> task.deferUntil(inGrace.get(task.getStorageUrl()).getCreatedAt().plus(deletionGrace)));
+        taskRepository.saveAll(deferredTasks);
+
+        return blobTasks.stream()
+                .map(StorageDeletionTask::getId)
+                .collect(Collectors.toSet());
+    }
+
+    private void processPlainTasks(List<StorageDeletionTask> tasks) {
+        List<String> storageUrls = tasks.stream()
+                .map(StorageDeletionTask::getStorageUrl)
+                .toList();
+
+        Set<String> failedUrls;
+        String error = null;
+        try {
+            failedUrls = new HashSet<>(fileStorageService.deleteFiles(storageUrls));
+        } catch (Exception e) {
+            log.error("스토리지 파일 일괄 삭제 실패 ({}건)", storageUrls.size(), e);
+            failedUrls = new HashSet<>(storageUrls);
+            error = e.getMessage();
+        }
+
+        Set<String> failed = failedUrls;
+        String lastError = error != null ? error : "스토리지 삭제 실패";
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Long> completedIds = tasks.stream()
+                    .filter(task -> !failed.contains(task.getStorageUrl()))
+                    .map(StorageDeletionTask::getId)
+                    .toList();
+            taskRepository.deleteAllByIdInBatch(completedIds);
+
+            List<StorageDeletionTask> retryTasks = tasks.stream()
+                    .filter(task -> failed.contains(task.getStorageUrl()))
+                    .toList();
+            retryTasks.forEach(task -> task.scheduleRetry(backoff(task.getAttempts()), lastError));
+            taskRepository.saveAll(retryTasks);
+        });
+
+        if (!failed.isEmpty()) {
+            log.warn("스토리지 파일 삭제 재시도 예약: {}건", failed.size());
+        }
+    }
+
+    // 지수 백오프 (10초, 20초, 40초, ... 최대 1시간)
+    private Duration backoff(int attempts) {
+        Duration backoff = BASE_BACKOFF.multipliedBy(1L << Math.min(attempts, 20));
+        return backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff;
+    }
+}
@@ -0,0 +1,199 @@
+package codeit.sb06.imagepost.service;
+
+import codeit.sb06.imagepost.dto.FileMetaData;
+import codeit.sb06.imagepost.entity.PostImage;
+import codeit.sb06.imagepost.entity.StoredBlob;
+import codeit.sb06.imagepost.exception.ErrorCode;
+import codeit.sb06.imagepost.exception.FileUploadException;
+import codeit.sb06.imagepost.repository.StoredBlobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 스토리지 파일의 참조 수 관리
+ * 여러 PostImage가 같은 파일을 공유하므로, 마지막 참조가 사라질 때만 삭제 아웃박스에 기록합니다.
+ * (실제 삭제 시점에 StorageDeletionOutbox가 락을 잡고 참조 수를 다시 확인)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StoredBlobService {
+
+    private final StoredBlobRepository storedBlobRepository;
+    private final StorageDeletionOutbox storageDeletionOutbox;
+    private final TransactionTemplate transactionTemplate;
+    private final FileStorageService fileStorageService;
+
+    private static final int SWEEP_BATCH_SIZE = 500;
+
+    @Value("${storage.blob.unreferenced-ttl:1d}")
+    private Duration unreferencedTtl;
+
+    /**
+     * 업로드된 파일을 참조 수 0으로 등록하고, 이후 참조에 사용할 등록된 파일 정보를 같은 순서로 반환합니다.
+     * 동시에 같은 내용이 업로드되어도 하나만 등록되도록 파일별로 짧은 트랜잭션에서 실행하며,
+     * storageUrl/contentHash의 유니크 제약에 걸리면 먼저 등록된 파일을 사용합니다.
+     * (다른 확장자로 저장되어 Key가 달라진 이 요청의 파일은 삭제 아웃박스에 기록)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<FileMetaData> register(List<FileMetaData> storedFiles) {
+        Map<String, FileMetaData> registered = new HashMap<>();
+        return storedFiles.stream()
+                .map(meta -> {
+                    FileMetaData blob = registered.computeIfAbsent(meta.storageUrl(), url -> registerOne(meta));
+                    return new FileMetaData(blob.storageUrl(), meta.originalFileName(), blob.thumbnailUrl(),
+                            blob.mediumUrl(), blob.contentHash());
+                })
+                .toList();
+    }
+
+    private FileMetaData registerOne(FileMetaData meta) {
+        Optional<StoredBlob> existing = findRegistered(meta);
+        if (existing.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> storedBlobRepository.saveAndFlush(new StoredBlob(meta)));
+                return meta;
+            } catch (DataIntegrityViolationException e) {
+                // 다른 요청이 같은 파일(또는 같은 내용의 파일)을 먼저 등록함
+                existing = findRegistered(meta);
+                if (existing.isEmpty()) {
+                    throw e;
+                }
+            }
+        }
+
+        StoredBlob blob = existing.get();
+        List<String> orphanedUrls = meta.storageUrls().stream()
+                .filter(url -> !blob.getStorageUrls().contains(url))
+                .toList();
+        if (!orphanedUrls.isEmpty()) {
+            log.debug("같은 내용의 파일이 먼저 등록됨: {} -> {}", meta.storageUrl(), blob.getStorageUrl());
+            transactionTemplate.executeWithoutResult(status -> storageDeletionOutbox.enqueue(orphanedUrls));
+        }
+        return blob.toFileMetaData(meta.originalFileName());
+    }
+
+    private Optional<StoredBlob> findRegistered(FileMetaData meta) {
+        Optional<StoredBlob> byUrl = storedBlobRepository.findByStorageUrl(meta.storageUrl());
+        if (byUrl.isPresent() || meta.contentHash() == null) {
+            return byUrl;
+        }
+        return storedBlobRepository.findByContentHash(meta.contentHash());
+    }
+
+    /**
+     * 새 PostImage가 파일을 참조하도록 참조 수를 늘립니다. (게시글 트랜잭션 안에서 호출)
+     * 등록 이후 삭제 작업이 파일을 지웠다면 재시도하도록 예외를 던집니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void acquire(List<FileMetaData> storedFiles) {
+        if (storedFiles.isEmpty()) {
+            return;
+        }
+        Map<String, StoredBlob> blobs = lockByStorageUrl(storedFiles.stream().map(FileMetaData::storageUrl).toList());
+        for (FileMetaData meta : storedFiles) {
+            StoredBlob blob = blobs.get(meta.storageUrl());
+            if (blob == null) {
+                throw new FileUploadException("업로드한 파일이 정리되었습니다. 다시 시도해주세요: " + meta.originalFileName());
+            }
+            blob.retain();
+        }
+    }
+
+    /**
+     * 제거되는 PostImage의 참조를 해제하고, 참조가 0이 된 파일은 삭제 아웃박스에 기록합니다.
+     * 참조 관리 이전에 저장된 이미지(등록 정보 없음)는 바로 삭제 대상으로 기록합니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void release(List<PostImage> images) {
+        if (images.isEmpty()) {
+            return;
+        }
+        Map<String, StoredBlob> blobs = lockByStorageUrl(images.stream().map(PostImage::getStorageUrl).toList());
+
+        List<String> deletionTargets = new ArrayList<>();
+        for (PostImage image : images) {
+            StoredBlob blob = blobs.get(image.getStorageUrl());
+            if (blob == null) {
+                deletionTargets.addAll(image.getStorageUrls());
+            } else if (blob.release() == 0) {
+                deletionTargets.add(blob.getStorageUrl());
+            }
+        }
+        storageDeletionOutbox.enqueue(deletionTargets);
+    }
+
+    /**
+     * 게시글에 연결되지 못한 업로드 파일을 삭제 아웃박스에 기록합니다.
+     * 같은 내용을 동시에 업로드한 다른 요청이 곧 참조할 수 있으므로 즉시 삭제하지 않습니다.
+     * 등록되지 않은 파일도 참조 수 0으로 먼저 등록해, 삭제 작업이 항상 락을 잡고 참조 수와 유예 시간을 확인한 뒤 지우도록 합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void discard(List<FileMetaData> storedFiles) {
+        if (storedFiles.isEmpty()) {
+            return;
+        }
+        // 원본 URL만 기록 (변형은 삭제 작업이 StoredBlob 정보로 함께 처리)
+        List<String> deletionTargets = register(storedFiles).stream()
+                .map(FileMetaData::storageUrl)
+                .distinct()
+                .toList();
+        transactionTemplate.executeWithoutResult(status -> storageDeletionOutbox.enqueue(deletionTargets));
+    }
+
+    /**
+     * 참조 수 0으로 등록된 뒤 오래도록 참조되지 않은 파일을 삭제 아웃박스에 기록합니다.
+     * (register 이후 게시글 저장 전에 서버가 종료되는 등으로 남은 파일 정리, 이미 삭제 작업이 있는 파일은 제외)
+     */
+    @Scheduled(fixedDelayString = "${storage.blob.sweep-interval-ms:3600000}",
+            initialDelayString = "${storage.blob.sweep-interval-ms:3600000}")
+    public void sweepUnreferenced() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(unreferencedTtl);
+        List<String> staleUrls;
+        do {
+            staleUrls = storedBlobRepository.findUnreferencedBefore(cutoff, PageRequest.of(0, SWEEP_BATCH_SIZE));
+            List<String> targets = staleUrls;
+            if (!targets.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> storageDeletionOutbox.enqueue(targets));
+                log.info("참조되지 않은 파일 삭제 예약: {}건", targets.size());
+            }
+        } while (staleUrls.size() == SWEEP_BATCH_SIZE);
+    }
+
+    /**
+     * 스트리밍 저장 중 서버가 종료되어 남은 임시 파일을 정리합니다. (저장이 끝나면 바로 옮겨지므로 TTL이 지난 파일은 모두 고아)
+     */
+    @Scheduled(fixedDelayString = "${storage.blob.sweep-interval-ms:3600000}",
+            initialDelayString = "${storage.blob.sweep-interval-ms:3600000}")
+    public void sweepTemporaryFiles() {
+        int deleted = fileStorageService.deleteStaleTemporaryFiles(Instant.now().minus(unreferencedTtl));
+        if (deleted > 0) {
+            log.info("남은 임시 파일 삭제: {}건", deleted);
+        }
+    }
+
+    private Map<String, StoredBlob> lockByStorageUrl(List<String> storageUrls) {
+        return storedBlobRepository.findAllForUpdate(new LinkedHashSet<>(storageUrls)).stream()
+                .collect(Collectors.toMap(StoredBlob::getStorageUrl, Function.identity()));
+    }
+}
@@ -0,0 +1,91 @@
+package codeit.sb06.imagepost.service;
+
+import codeit.sb06.imagepost.entity.UploadTicket;
+import codeit.sb06.imagepost.exception.ErrorCode;
+import codeit.sb06.imagepost.exception.FileUploadException;
+import codeit.sb06.imagepost.repository.UploadTicketRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 직접 업로드 Key(티켓) 관리
+ * - 발급: Key를 발급받은 사용자에게 묶어 기록
+ * - 소비: 게시글 등록 시 본인이 발급받은 Key만 한 번 소비 (동시에 같은 Key를 등록해도 한 요청만 성공)
+ * - 정리: 기한(기본 1일) 내 소비되지 않은 Key의 업로드 파일을 삭제 아웃박스로 넘김
+ * 등록된 파일은 내용 기반 Key로 옮겨지므로, 스토리지 전체를 조회하지 않고 만료된 티켓만 확인합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UploadTicketService {
+
+    private static final int SWEEP_BATCH_SIZE = 500;
+
+    private final UploadTicketRepository uploadTicketRepository;
+    private final StorageDeletionOutbox storageDeletionOutbox;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${storage.direct-upload.ticket-ttl:1d}")
+    private Duration ticketTtl;
+
+    @Transactional
+    public void issue(List<String> uploadKeys, String ownerUsername) {
+        LocalDateTime expiresAt = LocalDateTime.now().plus(ticketTtl);
+        uploadTicketRepository.saveAll(uploadKeys.stream()
+                .map(uploadKey -> new UploadTicket(uploadKey, ownerUsername, expiresAt))
+                .toList());
+    }
+
+    /**
+     * 사용자가 발급받은 Key를 소비합니다. (호출한 트랜잭션이 롤백되면 티켓도 복구됨)
+     * 하나라도 발급받지 않았거나, 이미 소비되었거나, 기한이 지났으면 FileUploadException을 던집니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void consume(List<String> uploadKeys, String ownerUsername) {
+        int consumed = uploadTicketRepository.consume(uploadKeys, ownerUsername, LocalDateTime.now());
+        if (consumed != uploadKeys.size()) {
+            throw new FileUploadException(ErrorCode.UPLOAD_NOT_FOUND.getMessage());
+        }
+    }
+
+    /**
+     * 소비했지만 게시글에 등록하지 못한 Key의 업로드 파일을 삭제 아웃박스에 기록합니다.
+     * (소비한 사용자 본인의 Key이므로 다른 게시글의 파일이 삭제되지 않으며, 이미 옮겨진 Key는 삭제해도 무해)
+     */
+    @Transactional
+    public void discard(List<String> uploadKeys) {
+        storageDeletionOutbox.enqueue(uploadKeys);
+    }
+
+    // 기한이 지난 티켓을 지우고 업로드 파일을 삭제 아웃박스에 기록 (Key마다 고유한 파일이므로 참조 수 확인 없이 삭제)
+    @Scheduled(fixedDelayString = "${storage.direct-upload.sweep-interval-ms:3600000}",
+            initialDelayString = "${storage.direct-upload.sweep-interval-ms:3600000}")
+    public void sweepExpired() {
+        int swept = 0;
+        List<UploadTicket> expired;
+        do {
+            expired = transactionTemplate.execute(status -> {
+                List<UploadTicket> tickets = uploadTicketRepository.findExpired(LocalDateTime.now(),
+                        PageRequest.of(0, SWEEP_BATCH_SIZE));
+                storageDeletionOutbox.enqueue(tickets.stream().map(UploadTicket::getUploadKey).toList());
+                uploadTicketRepository.deleteAllByIdInBatch(tickets.stream().map(UploadTicket::getId).toList());
+                return tickets;
+            });
+            swept += expired.size();
+        } while (expired.size() == SWEEP_BATCH_SIZE);
+        if (swept > 0) {
+            log.info("등록되지 않은 직접 업로드 파일 삭제 예약: {}건", swept);
+        }
+    }
+}
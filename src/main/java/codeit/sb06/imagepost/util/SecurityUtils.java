@@ -0,0 +1,25 @@
+package codeit.sb06.imagepost.util;
+
+import codeit.sb06.imagepost.security.MemberPrincipal;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Optional;
+
+public final class SecurityUtils {
+
+    private SecurityUtils() {
+    }
+
+    /**
+     * 현재 인증된 사용자의 Member ID를 DB 조회 없이 반환합니다.
+     * (MemberPrincipal 도입 이전에 생성된 세션 등 ID가 없는 경우 빈 값)
+     */
+    public static Optional<Long> currentMemberId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof MemberPrincipal principal) {
+            return Optional.ofNullable(principal.getMemberId());
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,20 @@
+package codeit.sb06.imagepost.util;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+public final class StorageUrls {
+
+    private StorageUrls() {
+    }
+
+    /**
+     * 원본과 변형(썸네일, 중간 크기)을 포함해 스토리지에 실제로 저장된 모든 URL을 반환합니다. (생성되지 않은 변형은 제외)
+     */
+    public static List<String> of(String storageUrl, String thumbnailUrl, String mediumUrl) {
+        return Stream.of(storageUrl, thumbnailUrl, mediumUrl)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
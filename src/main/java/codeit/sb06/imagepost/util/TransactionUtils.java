@@ -0,0 +1,27 @@
+package codeit.sb06.imagepost.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public final class TransactionUtils {
+
+    private TransactionUtils() {
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤에 작업을 실행합니다. (트랜잭션이 없으면 즉시 실행)
+     * 롤백되면 실행되지 않으므로, 캐시 무효화처럼 커밋된 상태에만 반영해야 하는 작업에 사용합니다.
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
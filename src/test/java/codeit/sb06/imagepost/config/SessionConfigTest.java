@@ -0,0 +1,102 @@
+package codeit.sb06.imagepost.config;
+
+import codeit.sb06.imagepost.security.MemberPrincipal;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.convert.support.GenericConversionService;
+import org.springframework.security.authentication.RememberMeAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 세션 속성(SecurityContext)의 JSON 직렬화 왕복 검증 (MemberPrincipal Mixin/Deserializer, @class 타입 정보)
+class SessionConfigTest {
+
+    private static final List<SimpleGrantedAuthority> AUTHORITIES =
+            List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN"));
+
+    private GenericConversionService conversionService;
+
+    @BeforeEach
+    void setUp() {
+        SessionConfig sessionConfig = new SessionConfig();
+        sessionConfig.setBeanClassLoader(getClass().getClassLoader());
+        conversionService = sessionConfig.springSessionConversionService(new ObjectMapper());
+    }
+
+    @Test
+    void 폼_로그인_인증_정보는_memberId와_권한을_유지한_채_복원된다() {
+        MemberPrincipal principal = principal();
+        Authentication authentication = UsernamePasswordAuthenticationToken.authenticated(principal, null, AUTHORITIES);
+
+        SecurityContext restored = roundTrip(new SecurityContextImpl(authentication));
+
+        assertThat(restored.getAuthentication()).isInstanceOf(UsernamePasswordAuthenticationToken.class);
+        assertThat(restored.getAuthentication().isAuthenticated()).isTrue();
+        assertRestoredPrincipal(restored.getAuthentication());
+    }
+
+    @Test
+    void 자동_로그인_인증_정보는_memberId와_권한을_유지한_채_복원된다() {
+        MemberPrincipal principal = principal();
+        Authentication authentication = new RememberMeAuthenticationToken("remember-me-key", principal, AUTHORITIES);
+
+        SecurityContext restored = roundTrip(new SecurityContextImpl(authentication));
+
+        assertThat(restored.getAuthentication()).isInstanceOf(RememberMeAuthenticationToken.class);
+        assertThat(((RememberMeAuthenticationToken) restored.getAuthentication()).getKeyHash())
+                .isEqualTo("remember-me-key".hashCode());
+        assertRestoredPrincipal(restored.getAuthentication());
+    }
+
+    @Test
+    void 저장되는_JSON에는_클래스_타입_정보가_포함된다() {
+        Authentication authentication = UsernamePasswordAuthenticationToken.authenticated(principal(), null, AUTHORITIES);
+
+        byte[] bytes = conversionService.convert(new SecurityContextImpl(authentication), byte[].class);
+
+        String json = new String(bytes, StandardCharsets.UTF_8);
+        assertThat(json)
+                .contains("\"@class\":\"" + SecurityContextImpl.class.getName() + "\"")
+                .contains("\"@class\":\"" + MemberPrincipal.class.getName() + "\"")
+                .contains("\"memberId\":42")
+                .doesNotContain("secret");
+    }
+
+    private SecurityContext roundTrip(SecurityContext context) {
+        byte[] bytes = conversionService.convert(context, byte[].class);
+        Object restored = conversionService.convert(bytes, Object.class);
+        assertThat(restored).isInstanceOf(SecurityContextImpl.class);
+        return (SecurityContext) restored;
+    }
+
+    private static void assertRestoredPrincipal(Authentication authentication) {
+        assertThat(authentication.getPrincipal()).isInstanceOf(MemberPrincipal.class);
+        MemberPrincipal principal = (MemberPrincipal) authentication.getPrincipal();
+        assertThat(principal.getMemberId()).isEqualTo(42L);
+        assertThat(principal.getUsername()).isEqualTo("user");
+        assertThat(principal.getPassword()).isNull();
+        assertThat(principal.getAuthorities())
+                .extracting(GrantedAuthority::getAuthority)
+                .containsExactlyInAnyOrder("ROLE_USER", "ROLE_ADMIN");
+        assertThat(authentication.getAuthorities())
+                .extracting(GrantedAuthority::getAuthority)
+                .containsExactlyInAnyOrder("ROLE_USER", "ROLE_ADMIN");
+    }
+
+    // 인증 후 ProviderManager가 비밀번호를 지운 상태로 세션에 저장됨
+    private static MemberPrincipal principal() {
+        MemberPrincipal principal = new MemberPrincipal(42L, "user", "secret", AUTHORITIES);
+        principal.eraseCredentials();
+        return principal;
+    }
+}
@@ -0,0 +1,35 @@
+package codeit.sb06.imagepost.controller;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// index.html 응답 인코딩(Accept-Encoding q 값) 선택 검증
+class AppControllerTest {
+
+    @Test
+    void Accept_Encoding이_없거나_identity만_허용하면_원본() {
+        assertThat(AppController.selectEncoding(null, true)).isNull();
+        assertThat(AppController.selectEncoding("identity", true)).isNull();
+    }
+
+    @Test
+    void q가_0인_인코딩은_허용하지_않는다() {
+        assertThat(AppController.selectEncoding("gzip;q=0", true)).isNull();
+        assertThat(AppController.selectEncoding("gzip;q=0, identity", true)).isNull();
+        assertThat(AppController.selectEncoding("*, br;q=0", true)).isEqualTo("gzip");
+        assertThat(AppController.selectEncoding("*;q=0", true)).isNull();
+    }
+
+    @Test
+    void br을_허용하고_빌드_결과물이_있으면_br을_우선한다() {
+        assertThat(AppController.selectEncoding("gzip, deflate, br", true)).isEqualTo("br");
+        assertThat(AppController.selectEncoding("gzip, deflate, br", false)).isEqualTo("gzip");
+        assertThat(AppController.selectEncoding("br;q=0.5, gzip", true)).isEqualTo("gzip");
+    }
+
+    @Test
+    void 이름에_gzip이_포함된_다른_인코딩은_gzip으로_보지_않는다() {
+        assertThat(AppController.selectEncoding("x-gzip-custom", true)).isNull();
+    }
+}
@@ -0,0 +1,73 @@
+package codeit.sb06.imagepost.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 업로드 파일 서빙의 Range/If-Range 해석 검증
+class LocalUploadControllerTest {
+
+    private static final String ETAG = "\"abc.png\"";
+    private static final long LAST_MODIFIED = 1_700_000_000_000L;
+    private static final long SIZE = 1_000;
+
+    @Test
+    void Range_헤더가_없으면_전체_응답() {
+        assertThat(LocalUploadController.resolveRange(new MockHttpServletRequest(), ETAG, LAST_MODIFIED)).isNull();
+    }
+
+    @Test
+    void 단일_구간과_끝에서부터의_구간을_해석한다() {
+        HttpRange range = LocalUploadController.resolveRange(request("bytes=100-199"), ETAG, LAST_MODIFIED);
+        assertThat(range.getRangeStart(SIZE)).isEqualTo(100);
+        assertThat(range.getRangeEnd(SIZE)).isEqualTo(199);
+
+        HttpRange suffix = LocalUploadController.resolveRange(request("bytes=-100"), ETAG, LAST_MODIFIED);
+        assertThat(suffix.getRangeStart(SIZE)).isEqualTo(900);
+        assertThat(suffix.getRangeEnd(SIZE)).isEqualTo(999);
+    }
+
+    @Test
+    void 여러_구간이나_잘못된_형식이면_전체_응답() {
+        assertThat(LocalUploadController.resolveRange(request("bytes=0-1,5-6"), ETAG, LAST_MODIFIED)).isNull();
+        assertThat(LocalUploadController.resolveRange(request("items=0-1"), ETAG, LAST_MODIFIED)).isNull();
+    }
+
+    @Test
+    void If_Range의_ETag가_현재_버전과_같을_때만_구간_응답() {
+        MockHttpServletRequest matching = request("bytes=0-9");
+        matching.addHeader(HttpHeaders.IF_RANGE, ETAG);
+        assertThat(LocalUploadController.resolveRange(matching, ETAG, LAST_MODIFIED)).isNotNull();
+
+        MockHttpServletRequest stale = request("bytes=0-9");
+        stale.addHeader(HttpHeaders.IF_RANGE, "\"old.png\"");
+        assertThat(LocalUploadController.resolveRange(stale, ETAG, LAST_MODIFIED)).isNull();
+    }
+
+    @Test
+    void If_Range의_약한_ETag는_값이_같아도_전체_응답() {
+        MockHttpServletRequest weak = request("bytes=0-9");
+        weak.addHeader(HttpHeaders.IF_RANGE, "W/" + ETAG);
+        assertThat(LocalUploadController.resolveRange(weak, ETAG, LAST_MODIFIED)).isNull();
+    }
+
+    @Test
+    void If_Range의_날짜는_초_단위로_비교한다() {
+        MockHttpServletRequest matching = request("bytes=0-9");
+        matching.addHeader(HttpHeaders.IF_RANGE, LAST_MODIFIED - LAST_MODIFIED % 1000);
+        assertThat(LocalUploadController.resolveRange(matching, ETAG, LAST_MODIFIED + 500)).isNotNull();
+
+        MockHttpServletRequest stale = request("bytes=0-9");
+        stale.addHeader(HttpHeaders.IF_RANGE, LAST_MODIFIED - 60_000);
+        assertThat(LocalUploadController.resolveRange(stale, ETAG, LAST_MODIFIED)).isNull();
+    }
+
+    private static MockHttpServletRequest request(String range) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.RANGE, range);
+        return request;
+    }
+}
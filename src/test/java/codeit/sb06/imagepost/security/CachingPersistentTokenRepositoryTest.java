@@ -0,0 +1,87 @@
+package codeit.sb06.imagepost.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.web.authentication.rememberme.JdbcTokenRepositoryImpl;
+import org.springframework.security.web.authentication.rememberme.PersistentRememberMeToken;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 토큰 갱신의 즉시 반영과 캐시/DB 재조회 동작 검증 (JDBC는 mock으로 대체)
+class CachingPersistentTokenRepositoryTest {
+
+    private static final String SERIES = "series";
+
+    private JdbcTokenRepositoryImpl delegate;
+    private JdbcTemplate jdbcTemplate;
+    private CachingPersistentTokenRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(JdbcTokenRepositoryImpl.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        repository = new CachingPersistentTokenRepository(delegate, jdbcTemplate, Duration.ofDays(14), Duration.ofSeconds(30));
+        when(delegate.getTokenForSeries(SERIES)).thenReturn(token("t0", 0));
+    }
+
+    @Test
+    void updateToken은_즉시_DB에_반영하고_캐시를_갱신한다() {
+        when(jdbcTemplate.update(anyString(), any(), any(), any(), any())).thenReturn(1);
+        repository.getTokenForSeries(SERIES);
+
+        repository.updateToken(SERIES, "t1", new Date(1_000));
+
+        Timestamp lastUsed = new Timestamp(1_000);
+        verify(jdbcTemplate).update(anyString(), eq("t1"), eq(lastUsed), eq(SERIES), eq(lastUsed));
+        assertThat(repository.getTokenForSeries(SERIES).getTokenValue()).isEqualTo("t1");
+        verify(delegate, times(1)).getTokenForSeries(SERIES);
+    }
+
+    @Test
+    void updateToken은_더_나중_값이_먼저_반영되었으면_예외를_던지고_캐시를_비운다() {
+        when(jdbcTemplate.update(anyString(), any(), any(), any(), any())).thenReturn(0);
+        repository.getTokenForSeries(SERIES);
+
+        assertThatThrownBy(() -> repository.updateToken(SERIES, "t1", new Date(1_000)))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+
+        when(delegate.getTokenForSeries(SERIES)).thenReturn(token("other-instance", 5_000));
+        assertThat(repository.getTokenForSeries(SERIES).getTokenValue()).isEqualTo("other-instance");
+    }
+
+    @Test
+    void reloadTokenForSeries는_캐시를_건너뛰고_DB_값으로_교체한다() {
+        repository.getTokenForSeries(SERIES);
+        when(delegate.getTokenForSeries(SERIES)).thenReturn(token("other-instance", 5_000));
+
+        assertThat(repository.reloadTokenForSeries(SERIES).getTokenValue()).isEqualTo("other-instance");
+        assertThat(repository.getTokenForSeries(SERIES).getTokenValue()).isEqualTo("other-instance");
+    }
+
+    @Test
+    void reloadTokenForSeries는_DB에서_삭제된_토큰이면_null을_반환한다() {
+        repository.getTokenForSeries(SERIES);
+        when(delegate.getTokenForSeries(SERIES)).thenReturn(null);
+
+        assertThat(repository.reloadTokenForSeries(SERIES)).isNull();
+        assertThat(repository.getTokenForSeries(SERIES)).isNull();
+    }
+
+    private static PersistentRememberMeToken token(String value, long lastUsed) {
+        return new PersistentRememberMeToken("user", SERIES, value, new Date(lastUsed));
+    }
+}
@@ -0,0 +1,31 @@
+package codeit.sb06.imagepost.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 계정 단위 한도가 (username, IP)로 적용되는지 검증 (다른 IP에서의 실패로 계정이 잠기지 않음)
+class LoginAttemptLimiterTest {
+
+    private final LoginAttemptLimiter limiter = new LoginAttemptLimiter(Duration.ofMinutes(5), 100, 2);
+
+    @Test
+    void 같은_IP에서_계정_한도에_도달하면_그_IP의_시도만_차단한다() {
+        assertThat(limiter.tryAcquire("1.1.1.1", "user")).isTrue();
+        assertThat(limiter.tryAcquire("1.1.1.1", "USER")).isTrue();
+        assertThat(limiter.tryAcquire("1.1.1.1", "user")).isFalse();
+
+        assertThat(limiter.tryAcquire("2.2.2.2", "user")).isTrue();
+    }
+
+    @Test
+    void 로그인에_성공하면_그_IP의_계정_실패_기록을_초기화한다() {
+        limiter.tryAcquire("1.1.1.1", "user");
+        limiter.tryAcquire("1.1.1.1", "user");
+        limiter.onSuccess("1.1.1.1", "user");
+
+        assertThat(limiter.tryAcquire("1.1.1.1", "user")).isTrue();
+    }
+}
@@ -0,0 +1,81 @@
+package codeit.sb06.imagepost.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 슬라이딩 윈도우 추정치와 한도 내 예약(tryIncrement)/되돌림(decrement) 검증
+class SlidingWindowCounterTest {
+
+    private static final long WINDOW = 1_000;
+
+    @Test
+    void 한도에_도달하면_더_이상_예약하지_않는다() {
+        LoginAttemptLimiter.SlidingWindowCounter counter = new LoginAttemptLimiter.SlidingWindowCounter(WINDOW);
+
+        assertThat(counter.tryIncrement(100, 2)).isTrue();
+        assertThat(counter.tryIncrement(200, 2)).isTrue();
+        assertThat(counter.tryIncrement(300, 2)).isFalse();
+        assertThat(counter.estimate(300)).isEqualTo(2.0);
+    }
+
+    @Test
+    void 직전_윈도우는_겹치는_비율만큼만_반영된다() {
+        LoginAttemptLimiter.SlidingWindowCounter counter = new LoginAttemptLimiter.SlidingWindowCounter(WINDOW);
+        for (int i = 0; i < 4; i++) {
+            counter.tryIncrement(500, 10);
+        }
+
+        // 다음 윈도우의 1/4 지점: 직전 4회 x 0.75
+        assertThat(counter.estimate(WINDOW + 250)).isEqualTo(3.0);
+        // 두 윈도우 이상 지나면 모두 사라짐
+        assertThat(counter.estimate(WINDOW * 3)).isZero();
+    }
+
+    @Test
+    void decrement는_예약을_되돌리고_윈도우가_바뀌었으면_직전_윈도우에서_차감한다() {
+        LoginAttemptLimiter.SlidingWindowCounter counter = new LoginAttemptLimiter.SlidingWindowCounter(WINDOW);
+        counter.tryIncrement(100, 10);
+        counter.tryIncrement(200, 10);
+
+        counter.decrement(300);
+        assertThat(counter.estimate(300)).isEqualTo(1.0);
+
+        counter.decrement(WINDOW);
+        assertThat(counter.estimate(WINDOW)).isZero();
+
+        // 0 아래로 내려가지 않음
+        counter.decrement(WINDOW);
+        assertThat(counter.estimate(WINDOW)).isZero();
+    }
+
+    @Test
+    void 동시에_예약해도_한도를_넘지_않는다() throws InterruptedException {
+        LoginAttemptLimiter.SlidingWindowCounter counter = new LoginAttemptLimiter.SlidingWindowCounter(60_000);
+        int limit = 5;
+        int threads = 32;
+        AtomicInteger acquired = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                start.await();
+                if (counter.tryIncrement(1_000, limit)) {
+                    acquired.incrementAndGet();
+                }
+                return null;
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(acquired).hasValue(limit);
+    }
+}
@@ -0,0 +1,89 @@
+package codeit.sb06.imagepost.service;
+
+import codeit.sb06.imagepost.dto.response.PostPageResponse;
+import codeit.sb06.imagepost.entity.Member;
+import codeit.sb06.imagepost.entity.Post;
+import codeit.sb06.imagepost.entity.PostImage;
+import codeit.sb06.imagepost.repository.MemberRepository;
+import codeit.sb06.imagepost.repository.PostRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 게시글 목록 조회 시 게시글 수와 무관하게 고정된 개수의 쿼리만 실행되는지 검증 (N+1 회귀 방지)
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@ActiveProfiles("build")
+class PostServiceQueryCountTest {
+
+    private static final int POST_COUNT = 10;
+
+    // 게시글+작성자(fetch join) 1회, tags 배치 1회, images 배치 1회
+    private static final long MAX_FEED_STATEMENTS = 3;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Member author = memberRepository.findByUsername("user").orElseThrow();
+        for (int i = 0; i < POST_COUNT; i++) {
+            Post post = Post.builder()
+                    .author(author)
+                    .title("title" + i)
+                    .content("content" + i)
+                    .tags(new ArrayList<>(List.of("tag" + i, "common")))
+                    .build();
+            post.setImages(List.of(PostImage.builder()
+                    .storageUrl("/uploads/image" + i + ".png")
+                    .originalFileName("image" + i + ".png")
+                    .build()));
+            postRepository.save(post);
+        }
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        postRepository.deleteAll();
+    }
+
+    @Test
+    void findFeed_loadsWholePageInFixedNumberOfStatements() {
+        PostPageResponse page = postService.findFeed(null, POST_COUNT);
+
+        assertThat(page.posts()).hasSize(POST_COUNT);
+        assertThat(page.posts()).allSatisfy(post -> {
+            assertThat(post.author()).isEqualTo("user");
+            assertThat(post.tags()).hasSize(2);
+            assertThat(post.images()).hasSize(1);
+        });
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_FEED_STATEMENTS);
+    }
+}
@@ -0,0 +1,128 @@
+package codeit.sb06.imagepost.service;
+
+import codeit.sb06.imagepost.dto.FileMetaData;
+import codeit.sb06.imagepost.entity.PostImage;
+import codeit.sb06.imagepost.entity.StoredBlob;
+import codeit.sb06.imagepost.exception.FileUploadException;
+import codeit.sb06.imagepost.repository.StoredBlobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 참조 수 증감과 마지막 참조 해제 시의 삭제 예약 검증 (트랜잭션/락은 저장소 mock으로 대체)
+class StoredBlobServiceTest {
+
+    private static final String URL = "/uploads/aaaa.png";
+    private static final String THUMBNAIL_URL = "/uploads/aaaa_thumb.png";
+
+    private StoredBlobRepository storedBlobRepository;
+    private StorageDeletionOutbox storageDeletionOutbox;
+    private TransactionTemplate transactionTemplate;
+    private StoredBlobService storedBlobService;
+
+    @BeforeEach
+    void setUp() {
+        storedBlobRepository = mock(StoredBlobRepository.class);
+        storageDeletionOutbox = mock(StorageDeletionOutbox.class);
+        transactionTemplate = mock(TransactionTemplate.class);
+        storedBlobService = new StoredBlobService(storedBlobRepository, storageDeletionOutbox, transactionTemplate,
+                mock(FileStorageService.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void register는_같은_내용이_먼저_등록되면_등록된_파일을_반환하고_이_요청의_파일은_삭제_예약한다() {
+        // 같은 내용을 다른 확장자로 동시에 업로드해 Key가 다른 경우 (contentHash 유니크 제약에 걸림)
+        FileMetaData winner = new FileMetaData("/uploads/aaaa.png", "a.png", "/uploads/aaaa_png_thumbnail.jpg", null, "aaaa");
+        FileMetaData loser = new FileMetaData("/uploads/aaaa.PNG", "b.PNG", "/uploads/aaaa_PNG_thumbnail.jpg", null, "aaaa");
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Consumer.class).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(storedBlobRepository.findByStorageUrl(loser.storageUrl())).thenReturn(Optional.empty());
+        when(storedBlobRepository.findByContentHash("aaaa"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(new StoredBlob(winner)));
+        when(storedBlobRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("uk_stored_blob_content_hash"));
+
+        List<FileMetaData> registered = storedBlobService.register(List.of(loser));
+
+        assertThat(registered).containsExactly(new FileMetaData(
+                winner.storageUrl(), "b.PNG", winner.thumbnailUrl(), null, "aaaa"));
+        verify(storageDeletionOutbox).enqueue(List.of(loser.storageUrl(), loser.thumbnailUrl()));
+    }
+
+    @Test
+    void acquire는_같은_파일을_참조할_때마다_참조_수를_늘린다() {
+        StoredBlob blob = new StoredBlob(new FileMetaData(URL, "a.png"));
+        when(storedBlobRepository.findAllForUpdate(anyCollection())).thenReturn(List.of(blob));
+
+        storedBlobService.acquire(List.of(new FileMetaData(URL, "a.png"), new FileMetaData(URL, "b.png")));
+
+        assertThat(blob.getRefCount()).isEqualTo(2);
+    }
+
+    @Test
+    void acquire는_등록_정보가_정리된_파일이면_예외를_던진다() {
+        when(storedBlobRepository.findAllForUpdate(anyCollection())).thenReturn(List.of());
+
+        assertThatThrownBy(() -> storedBlobService.acquire(List.of(new FileMetaData(URL, "a.png"))))
+                .isInstanceOf(FileUploadException.class);
+    }
+
+    @Test
+    void release는_참조가_남아_있으면_삭제를_예약하지_않는다() {
+        StoredBlob blob = new StoredBlob(new FileMetaData(URL, "a.png"));
+        blob.retain();
+        blob.retain();
+        when(storedBlobRepository.findAllForUpdate(anyCollection())).thenReturn(List.of(blob));
+
+        storedBlobService.release(List.of(image(URL, null)));
+
+        assertThat(blob.getRefCount()).isEqualTo(1);
+        verify(storageDeletionOutbox).enqueue(List.of());
+    }
+
+    @Test
+    void release는_마지막_참조가_해제되면_원본_URL만_삭제_예약한다() {
+        StoredBlob blob = new StoredBlob(new FileMetaData(URL, "a.png", THUMBNAIL_URL, null, null));
+        blob.retain();
+        when(storedBlobRepository.findAllForUpdate(anyCollection())).thenReturn(List.of(blob));
+
+        storedBlobService.release(List.of(image(URL, THUMBNAIL_URL)));
+
+        assertThat(blob.getRefCount()).isZero();
+        verify(storageDeletionOutbox).enqueue(List.of(URL));
+    }
+
+    @Test
+    void release는_등록_정보가_없는_이전_이미지의_모든_URL을_삭제_예약한다() {
+        when(storedBlobRepository.findAllForUpdate(anyCollection())).thenReturn(List.of());
+
+        storedBlobService.release(List.of(image(URL, THUMBNAIL_URL)));
+
+        verify(storageDeletionOutbox).enqueue(List.of(URL, THUMBNAIL_URL));
+    }
+
+    private static PostImage image(String storageUrl, String thumbnailUrl) {
+        return PostImage.builder()
+                .storageUrl(storageUrl)
+                .originalFileName("a.png")
+                .thumbnailUrl(thumbnailUrl)
+                .build();
+    }
+}